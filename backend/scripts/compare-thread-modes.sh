@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread request execution at high concurrency for
+# /transactions/expenses and /api/ai/chat. Starts the backend twice on the embedded H2
+# database (loadtest,h2 and loadtest,h2,virtual) with a stub Ollama that answers after
+# STUB_DELAY_MS, and runs both scenarios against each. Needs a Java 21+ runtime for the
+# virtual mode to take effect.
+#
+#   scripts/compare-thread-modes.sh            # 1000 users, 60s per scenario
+#   scripts/compare-thread-modes.sh 2000 120
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+USERS="${1:-1000}"
+DURATION="${2:-60}"
+STUB_PORT="${STUB_PORT:-11435}"
+STUB_DELAY_MS="${STUB_DELAY_MS:-2000}"
+
+if [ "$(java -XshowSettings:properties -version 2>&1 | awk -F' = ' '/java.specification.version/ {print $2}' | cut -d. -f1)" -lt 21 ]; then
+    echo "Warning: running on Java < 21, the virtual mode will fall back to platform threads" >&2
+fi
+
+mvn -B -o -q -DskipTests package
+JAR="$(ls target/infosys-backend-*.jar | grep -v original | head -1)"
+
+java src/loadtest/java/com/infosys/loadtest/StubOllamaServer.java "${STUB_PORT}" "${STUB_DELAY_MS}" &
+STUB_PID=$!
+APP_PID=""
+trap 'kill ${STUB_PID} ${APP_PID} 2>/dev/null || true' EXIT
+
+for MODE in platform virtual; do
+    PROFILES="loadtest,h2"
+    if [ "${MODE}" = "virtual" ]; then
+        PROFILES="${PROFILES},virtual"
+    fi
+    java -jar "${JAR}" --spring.profiles.active="${PROFILES}" \
+        --app.ai.ollama-url="http://localhost:${STUB_PORT}/api/generate" > "target/app-${MODE}.log" 2>&1 &
+    APP_PID=$!
+    until curl -sf http://localhost:9090/actuator/health > /dev/null; do
+        sleep 1
+    done
+
+    for SCENARIO in expenses ai-chat; do
+        LOADTEST_SCENARIO="${SCENARIO}" LOADTEST_LABEL="${MODE}" scripts/run-loadtest.sh "${USERS}" "${DURATION}"
+    done
+
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+done
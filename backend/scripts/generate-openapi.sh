@@ -0,0 +1,10 @@
+#!/usr/bin/env bash
+# Regenerates src/main/resources/static/openapi.json from the running app (on H2), the
+# spec the startup profile serves instead of scanning controllers. Commit the result
+# together with API changes.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+mvn -B -o -q -Popenapi -DskipTests verify
+echo "Spec written to src/main/resources/static/openapi.json"
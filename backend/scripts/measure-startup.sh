@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# Measures backend startup on the embedded H2 database for each variant:
+#
+#   default        java -jar, h2 profile
+#   startup        + startup profile (validate only, no springdoc, lazy rarely used beans)
+#   startup-aot    + AOT-processed context (-Dspring.aot.enabled=true)
+#   startup-cds    + unpacked classpath with the AppCDS archive from the -Pstartup build
+#
+# Each variant is started RUNS times; the "process running for" time Spring Boot logs
+# once the app is ready is recorded, so JVM startup counts too. Results are kept per
+# commit in target/startup/<commit>.txt.
+#
+#   scripts/measure-startup.sh        # 5 runs per variant
+#   scripts/measure-startup.sh 10
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PROFILES="h2,startup"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if ! git diff --quiet 2>/dev/null; then
+    COMMIT="${COMMIT}-dirty"
+fi
+CDS_DIR="$(pwd)/target/cds"
+APP_PID=""
+trap 'kill ${APP_PID} 2>/dev/null || true' EXIT
+
+# Starts the command in the background, waits for the "Started" line and prints the seconds
+time_start() {
+    local log="target/startup/run.log"
+    "$@" > "${log}" 2>&1 &
+    APP_PID=$!
+    until grep -q "Started InfosysApplication" "${log}"; do
+        if ! kill -0 "${APP_PID}" 2>/dev/null; then
+            echo "App exited before starting, see ${log}" >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+    kill "${APP_PID}"
+    wait "${APP_PID}" 2>/dev/null || true
+    sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "${log}"
+}
+
+measure() {
+    local variant="$1"
+    shift
+    local times=() seconds
+    for _ in $(seq "${RUNS}"); do
+        seconds="$(time_start "$@")"
+        times+=("${seconds}")
+    done
+    local median
+    median="$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : (a[NR/2] + a[NR/2+1]) / 2}')"
+    printf '%-12s median %6ss  runs: %s\n' "${variant}" "${median}" "${times[*]}" | tee -a "target/startup/${COMMIT}.txt"
+}
+
+mkdir -p target/startup
+rm -f "target/startup/${COMMIT}.txt"
+
+# Plain build first; one run creates the H2 schema the startup profile only validates
+mvn -B -o -q -DskipTests package
+JAR="$(ls target/infosys-backend-*.jar | grep -v original | head -1)"
+time_start java -jar "${JAR}" --spring.profiles.active=h2 > /dev/null
+
+measure default java -jar "${JAR}" --spring.profiles.active=h2
+
+# AOT and the CDS training run use the same profiles as the measured runs
+mvn -B -o -q -DskipTests -Pstartup -Dstartup.profiles="${PROFILES}" package
+measure startup java -jar "${JAR}" --spring.profiles.active="${PROFILES}"
+measure startup-aot java -Dspring.aot.enabled=true -jar "${JAR}" --spring.profiles.active="${PROFILES}"
+measure startup-cds java -XX:SharedArchiveFile="${CDS_DIR}/app.jsa" -Dspring.aot.enabled=true \
+    -cp "${CDS_DIR}/app/BOOT-INF/classes:${CDS_DIR}/app/BOOT-INF/lib/*" \
+    com.infosys.InfosysApplication --spring.profiles.active="${PROFILES}"
+
+echo "Results written to target/startup/${COMMIT}.txt"
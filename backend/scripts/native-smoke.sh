@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Builds the native executable for the embedded H2 database and runs a smoke pass over
+# it: startup time and RSS, then register/login (jjwt), transactions and projections
+# (JPA), CBOR negotiation, analytics, forum, delta sync and the CSV/PDF exports (iText).
+# Any failed request fails the script. Needs GraalVM (native-image) on the PATH.
+# The same checks run as the SmokeTest suite, natively with mvn -PnativeTest test; this
+# script adds the startup time and RSS of the real binary.
+#
+#   scripts/native-smoke.sh               # build and test
+#   SKIP_BUILD=1 scripts/native-smoke.sh  # reuse target/budgetly-backend
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL="http://localhost:9090"
+BINARY="target/budgetly-backend"
+LOG="target/native-smoke.log"
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+    mvn -B -o -q -Pnative -Dnative.profiles=h2 -DskipTests native:compile
+fi
+
+# A fresh database each run so registration always succeeds
+rm -rf target/h2
+"${BINARY}" --spring.profiles.active=h2 > "${LOG}" 2>&1 &
+APP_PID=$!
+trap 'kill ${APP_PID} 2>/dev/null || true' EXIT
+
+until grep -q "Started InfosysApplication" "${LOG}"; do
+    if ! kill -0 "${APP_PID}" 2>/dev/null; then
+        echo "Native binary exited before starting, see ${LOG}" >&2
+        exit 1
+    fi
+    sleep 0.1
+done
+grep -o "Started InfosysApplication in .*" "${LOG}"
+echo "RSS after startup: $(ps -o rss= -p "${APP_PID}" | tr -d ' ') KB"
+
+FAILURES=0
+check() {
+    local name="$1" expected="$2" status
+    shift 2
+    status="$(curl -s -o target/native-smoke-body -w '%{http_code}' "$@")"
+    if [ "${status}" = "${expected}" ]; then
+        echo "ok    ${name}"
+    else
+        echo "FAIL  ${name}: HTTP ${status} $(head -c 300 target/native-smoke-body)"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+JSON=(-H 'Content-Type: application/json')
+check register 200 "${JSON[@]}" -d '{"name":"Smoke Test","email":"smoke@example.com","password":"smoke-pass-1"}' "${BASE_URL}/auth/register"
+TOKEN="$(curl -s "${JSON[@]}" -d '{"email":"smoke@example.com","password":"smoke-pass-1"}' "${BASE_URL}/auth/login" \
+    | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')"
+if [ -z "${TOKEN}" ]; then
+    echo "FAIL  login: no token" >&2
+    exit 1
+fi
+echo "ok    login"
+AUTH=(-H "Authorization: Bearer ${TOKEN}")
+
+check add-income 200 "${AUTH[@]}" "${JSON[@]}" -d '{"type":"income","amount":5000,"category":"Salary","description":"Pay","date":"2024-05-01"}' "${BASE_URL}/transactions"
+check add-expense 200 "${AUTH[@]}" "${JSON[@]}" -d '{"type":"expense","amount":120.5,"category":"Food","description":"Groceries","date":"2024-05-02"}' "${BASE_URL}/transactions"
+check incomes 200 "${AUTH[@]}" "${BASE_URL}/transactions/incomes"
+check expenses-fields 200 "${AUTH[@]}" "${BASE_URL}/transactions/expenses?fields=amount,category"
+check expenses-cbor 200 "${AUTH[@]}" -H 'Accept: application/cbor' "${BASE_URL}/transactions/expenses"
+check profile 200 "${AUTH[@]}" "${BASE_URL}/user/profile"
+check savings-goals 200 "${AUTH[@]}" "${BASE_URL}/budget/savings-goals"
+check analytics-summary 200 "${AUTH[@]}" "${BASE_URL}/analytics/summary"
+check analytics-categories 200 "${AUTH[@]}" "${BASE_URL}/analytics/category-breakdown"
+check forum-post 200 "${AUTH[@]}" "${JSON[@]}" -d '{"title":"Hello","content":"First post","category":"General"}' "${BASE_URL}/api/forum/posts"
+check forum-posts 200 "${BASE_URL}/api/forum/posts"
+check sync-changes 200 "${AUTH[@]}" "${BASE_URL}/sync/changes"
+check export-csv 200 "${AUTH[@]}" "${BASE_URL}/api/export/csv"
+check export-pdf 200 "${AUTH[@]}" "${BASE_URL}/api/export/pdf"
+check health 200 "${BASE_URL}/actuator/health"
+
+echo "RSS after smoke pass: $(ps -o rss= -p "${APP_PID}" | tr -d ' ') KB"
+if [ "${FAILURES}" -gt 0 ]; then
+    echo "${FAILURES} smoke check(s) failed, log in ${LOG}" >&2
+    exit 1
+fi
+echo "All smoke checks passed"
@@ -0,0 +1,10 @@
+#!/usr/bin/env bash
+# Prints response sizes per encoding (JSON, Smile, CBOR, each raw and gzipped) for the
+# transaction list, forum post list and analytics payloads. Pair it with the timings from
+#
+#   scripts/run-benchmarks.sh 'PayloadEncodingBenchmark'
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+mvn -B -o -q -Pbenchmarks compile exec:exec@payload-sizes
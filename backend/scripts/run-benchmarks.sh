@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+# Runs the JMH benchmarks and keeps the JSON result per commit so runs can be compared,
+# e.g. with https://jmh.morethan.io or a plain diff of the "primaryMetric" scores.
+#
+#   scripts/run-benchmarks.sh                         # everything
+#   scripts/run-benchmarks.sh 'AnalyticsBenchmark'    # regex of benchmarks to run
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+INCLUDE="${1:-com.infosys.benchmark}"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if ! git diff --quiet 2>/dev/null; then
+    COMMIT="${COMMIT}-dirty"
+fi
+
+mvn -B -o -q -Pbenchmarks -Djmh.include="${INCLUDE}" compile exec:exec
+
+mkdir -p benchmarks/results
+cp target/jmh-result.json "benchmarks/results/${COMMIT}.json"
+echo "Results written to benchmarks/results/${COMMIT}.json"
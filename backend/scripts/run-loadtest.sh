@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Runs the HTTP load scenario against a backend that is already up with the loadtest profile:
+#
+#   mvn spring-boot:run -Dspring-boot.run.profiles=loadtest,h2   # seeds synthetic data
+#   scripts/run-loadtest.sh                                      # 50 users for 60s
+#   scripts/run-loadtest.sh 200 120                              # 200 users for 120s
+#   LOADTEST_SCENARIO=expenses scripts/run-loadtest.sh 1000 60    # single-endpoint scenario
+#
+# The result is kept per commit next to the JMH results so runs can be compared.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+USERS="${1:-50}"
+DURATION="${2:-60}"
+BASE_URL="${LOADTEST_BASE_URL:-http://localhost:9090}"
+SEEDED_USERS="${SEED_USERS:-100}"
+SCENARIO="${LOADTEST_SCENARIO:-mixed}"
+LABEL="${LOADTEST_LABEL:-}"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if ! git diff --quiet 2>/dev/null; then
+    COMMIT="${COMMIT}-dirty"
+fi
+
+mvn -B -o -q -Pbenchmarks \
+    -Dloadtest.baseUrl="${BASE_URL}" -Dloadtest.users="${USERS}" \
+    -Dloadtest.seededUsers="${SEEDED_USERS}" -Dloadtest.duration="${DURATION}" \
+    -Dloadtest.scenario="${SCENARIO}" -Dloadtest.label="${LABEL}" \
+    compile exec:exec@loadtest
+
+mkdir -p benchmarks/results
+OUT="benchmarks/results/${COMMIT}-loadtest-${SCENARIO}${LABEL:+-${LABEL}}.json"
+cp target/loadtest-result.json "${OUT}"
+echo "Results written to ${OUT}"
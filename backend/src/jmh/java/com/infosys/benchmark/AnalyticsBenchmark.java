@@ -0,0 +1,50 @@
+package com.infosys.benchmark;
+
+import com.infosys.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly and category aggregation in AnalyticsService over synthetic datasets.
+ * Repositories are stubbed so only the in-memory aggregation is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AnalyticsBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private AnalyticsService analyticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        analyticsService = BenchmarkData.analyticsService(rows);
+    }
+
+    @Benchmark
+    public Map<String, Object> monthlySpending() {
+        return analyticsService.getMonthlySpendingData(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public Map<String, Object> categoryBreakdown() {
+        return analyticsService.getCategoryBreakdownData(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public Map<String, Object> incomeVsExpenses() {
+        return analyticsService.getIncomeVsExpensesData(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public Map<String, Object> summary() {
+        return analyticsService.getSummaryData(BenchmarkData.EMAIL);
+    }
+}
@@ -0,0 +1,263 @@
+package com.infosys.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.infosys.dto.UserSummary;
+import com.infosys.model.Expense;
+import com.infosys.model.Income;
+import com.infosys.model.SavingsGoal;
+import com.infosys.repository.ExpenseRepository;
+import com.infosys.repository.IncomeRepository;
+import com.infosys.repository.SavingsGoalRepository;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.AnalyticsService;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Synthetic datasets and repository stubs for the benchmarks. Data is generated from a
+ * fixed seed so runs on different commits measure the same input.
+ */
+final class BenchmarkData {
+
+    static final long USER_ID = 1L;
+    static final String EMAIL = "bench@example.com";
+
+    private static final String[] EXPENSE_CATEGORIES = {
+        "Food", "Rent", "Transport", "Shopping", "Utilities", "Entertainment", "Health", "Education", "Travel", "Savings"
+    };
+    private static final String[] INCOME_CATEGORIES = { "Salary", "Freelance", "Investments", "Gift" };
+
+    private BenchmarkData() {}
+
+    static List<Expense> expenses(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Expense expense = new Expense();
+            expense.setId((long) i);
+            expense.setUserId(USER_ID);
+            expense.setAmount(Math.round(random.nextDouble() * 500000) / 100.0);
+            expense.setCategory(EXPENSE_CATEGORIES[random.nextInt(EXPENSE_CATEGORIES.length)]);
+            expense.setDescription("Expense " + i);
+            expense.setTransactionDate(dateString(today.minusDays(random.nextInt(730)), random));
+            expense.setCreatedAt(LocalDateTime.now().minusDays(random.nextInt(730)));
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+
+    static List<Income> incomes(int count) {
+        Random random = new Random(7);
+        LocalDate today = LocalDate.now();
+        List<Income> incomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Income income = new Income();
+            income.setId((long) i);
+            income.setUserId(USER_ID);
+            income.setAmount(Math.round(random.nextDouble() * 10000000) / 100.0);
+            income.setCategory(INCOME_CATEGORIES[random.nextInt(INCOME_CATEGORIES.length)]);
+            income.setDescription("Income " + i);
+            income.setTransactionDate(dateString(today.minusDays(random.nextInt(730)), random));
+            income.setCreatedAt(LocalDateTime.now().minusDays(random.nextInt(730)));
+            incomes.add(income);
+        }
+        return incomes;
+    }
+
+    static List<SavingsGoal> savingsGoals(int count) {
+        List<SavingsGoal> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SavingsGoal goal = new SavingsGoal();
+            goal.setId((long) i);
+            goal.setUserId(USER_ID);
+            goal.setGoalName("Goal " + i);
+            goal.setTargetAmount(BigDecimal.valueOf(100000));
+            goal.setCurrentAmount(BigDecimal.valueOf(2500L * i));
+            goals.add(goal);
+        }
+        return goals;
+    }
+
+    // Rows as the transaction list endpoints return them (TransactionView)
+    static List<Map<String, Object>> transactionRows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (Expense expense : expenses(count)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", expense.getId());
+            row.put("amount", expense.getAmount());
+            row.put("description", expense.getDescription());
+            row.put("category", expense.getCategory());
+            row.put("transactionDate", expense.getTransactionDate());
+            row.put("createdAt", expense.getCreatedAt());
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Rows as GET /api/forum/posts returns them (ForumPostView)
+    static List<Map<String, Object>> forumPostRows(int count) {
+        Random random = new Random(11);
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = LocalDateTime.now().minusMinutes(random.nextInt(500000));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", (long) i);
+            row.put("title", "How do I keep my " + EXPENSE_CATEGORIES[random.nextInt(EXPENSE_CATEGORIES.length)].toLowerCase() + " budget under control?");
+            row.put("content", "I've been tracking every expense for " + (1 + random.nextInt(24)) + " months and still overspend "
+                    + "most weeks. Any tips on setting realistic limits and sticking to them? Post " + i);
+            row.put("category", random.nextBoolean() ? "Budgeting" : "Savings");
+            row.put("userId", (long) random.nextInt(5000));
+            row.put("userName", "user" + random.nextInt(5000));
+            row.put("likesCount", random.nextInt(200));
+            row.put("createdAt", createdAt);
+            row.put("updatedAt", createdAt);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    static AnalyticsService analyticsService(int rows) {
+        List<Expense> expenses = expenses(rows);
+        List<Income> incomes = incomes(rows / 4);
+        List<SavingsGoal> goals = savingsGoals(5);
+
+        AnalyticsService analyticsService = new AnalyticsService();
+        inject(analyticsService, "userRepository", repository(UserRepository.class,
+                Map.of("findSummaryByEmail", returningUser())));
+        inject(analyticsService, "expenseRepository", repository(ExpenseRepository.class,
+                Map.of("findByUserIdOrderByCreatedAtDesc", returning(expenses))));
+        inject(analyticsService, "incomeRepository", repository(IncomeRepository.class,
+                Map.of("findByUserIdOrderByCreatedAtDesc", returning(incomes))));
+        inject(analyticsService, "savingsGoalRepository", repository(SavingsGoalRepository.class,
+                Map.of("findByUserId", returning(goals))));
+        return analyticsService;
+    }
+
+    // The four analytics responses the dashboard loads together
+    static Map<String, Object> analyticsPayload(int rows) {
+        AnalyticsService analyticsService = analyticsService(rows);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("monthlySpending", analyticsService.getMonthlySpendingData(EMAIL));
+        payload.put("categoryBreakdown", analyticsService.getCategoryBreakdownData(EMAIL));
+        payload.put("incomeVsExpenses", analyticsService.getIncomeVsExpensesData(EMAIL));
+        payload.put("summary", analyticsService.getSummaryData(EMAIL));
+        return payload;
+    }
+
+    // Same settings Boot applies to the application's mappers (see ResponseEncodingConfig)
+    static ObjectMapper mapper(String format) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        switch (format) {
+            case "json": return builder.build();
+            case "cbor": return builder.factory(new CBORFactory()).build();
+            case "smile": return builder.factory(new SmileFactory()).build();
+            default: throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    // Default deflate level, as the connector's compression uses
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // Mirrors what clients actually send: plain ISO dates, timestamps and the odd blank value
+    static String dateString(LocalDate date, Random random) {
+        int kind = random.nextInt(20);
+        if (kind == 0) {
+            return null;
+        }
+        if (kind < 4) {
+            return date.atTime(10, 30).toString();
+        }
+        return date.toString();
+    }
+
+    static UserSummary user() {
+        return (UserSummary) Proxy.newProxyInstance(UserSummary.class.getClassLoader(), new Class<?>[]{UserSummary.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> USER_ID;
+                    case "getEmail" -> EMAIL;
+                    case "getUsername" -> "bench";
+                    case "getFullName" -> "Bench User";
+                    case "getPreferredCurrency" -> "INR";
+                    case "hashCode" -> 1;
+                    case "equals" -> proxy == args[0];
+                    default -> "UserSummary[bench]";
+                });
+    }
+
+    // Repository proxy answering the named finder methods; anything else fails loudly
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            switch (method.getName()) {
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals": return proxy == args[0];
+                case "toString": return type.getSimpleName() + "Stub";
+                default: throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        });
+    }
+
+    static Function<Object[], Object> returning(Object value) {
+        return args -> value;
+    }
+
+    static Function<Object[], Object> returningUser() {
+        UserSummary user = user();
+        return args -> Optional.of(user);
+    }
+
+    // Lifecycle callbacks (@PostConstruct/@PreDestroy) are package-private on the services
+    static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call " + methodName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
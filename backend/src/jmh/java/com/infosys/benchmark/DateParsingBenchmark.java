@@ -0,0 +1,59 @@
+package com.infosys.benchmark;
+
+import com.infosys.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction dates are stored as strings and parsed on every analytics call. Measures
+ * AnalyticsService.parseDate and the month-key formatting done per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final String[] dates = new String[SAMPLES];
+    private final LocalDate[] parsed = new LocalDate[SAMPLES];
+    private MethodHandle parseDate;
+    private AnalyticsService analyticsService;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < SAMPLES; i++) {
+            dates[i] = BenchmarkData.dateString(today.minusDays(random.nextInt(730)), random);
+            parsed[i] = today.minusDays(random.nextInt(730));
+        }
+        analyticsService = new AnalyticsService();
+        parseDate = MethodHandles.privateLookupIn(AnalyticsService.class, MethodHandles.lookup())
+                .findVirtual(AnalyticsService.class, "parseDate", MethodType.methodType(LocalDate.class, String.class));
+    }
+
+    @Benchmark
+    public Object parseDate() throws Throwable {
+        index = (index + 1) & (SAMPLES - 1);
+        return parseDate.invoke(analyticsService, dates[index]);
+    }
+
+    @Benchmark
+    public void formatMonthKey(Blackhole blackhole) {
+        index = (index + 1) & (SAMPLES - 1);
+        blackhole.consume(parsed[index].format(DateTimeFormatter.ofPattern("MMM yyyy")));
+    }
+}
@@ -0,0 +1,55 @@
+package com.infosys.benchmark;
+
+import com.infosys.model.Expense;
+import com.infosys.model.Income;
+import com.infosys.repository.ExpenseRepository;
+import com.infosys.repository.IncomeRepository;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.ExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV and PDF generation in ExportService. PDF layout is far more expensive per row, so
+ * the dataset sizes stop at 100k rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ExportBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ExportService exportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Expense> expenses = BenchmarkData.expenses(rows);
+        List<Income> incomes = BenchmarkData.incomes(rows / 4);
+
+        exportService = new ExportService();
+        BenchmarkData.inject(exportService, "userRepository", BenchmarkData.repository(UserRepository.class,
+                Map.of("findSummaryByEmail", BenchmarkData.returningUser())));
+        BenchmarkData.inject(exportService, "expenseRepository", BenchmarkData.repository(ExpenseRepository.class,
+                Map.of("findByUserIdOrderByCreatedAtDesc", BenchmarkData.returning(expenses))));
+        BenchmarkData.inject(exportService, "incomeRepository", BenchmarkData.repository(IncomeRepository.class,
+                Map.of("findByUserIdOrderByCreatedAtDesc", BenchmarkData.returning(incomes))));
+    }
+
+    @Benchmark
+    public String csv() {
+        return exportService.exportToCSV(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public byte[] pdf() {
+        return exportService.exportToPDF(BenchmarkData.EMAIL);
+    }
+}
@@ -0,0 +1,44 @@
+package com.infosys.benchmark;
+
+import com.infosys.config.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and verification done by JwtUtil on login and on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkData.inject(jwtUtil, "secret", "myVeryLongSecretKeyThatIsAtLeast256BitsLongForJWTSecurity");
+        BenchmarkData.inject(jwtUtil, "expiration", 86400000L);
+        token = jwtUtil.generateToken(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken(BenchmarkData.EMAIL);
+    }
+
+    @Benchmark
+    public String verifyAndExtract() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.isTokenValid(token);
+    }
+}
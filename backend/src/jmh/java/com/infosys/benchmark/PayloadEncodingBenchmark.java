@@ -0,0 +1,66 @@
+package com.infosys.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialisation cost of the list and analytics responses per negotiated format, with and
+ * without gzip on top. Sizes for the same payloads are printed by PayloadSizeReport.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PayloadEncodingBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private List<Map<String, Object>> transactions;
+    private List<Map<String, Object>> forumPosts;
+    private Map<String, Object> analytics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = BenchmarkData.mapper(format);
+        transactions = BenchmarkData.transactionRows(rows);
+        forumPosts = BenchmarkData.forumPostRows(rows);
+        analytics = BenchmarkData.analyticsPayload(rows);
+    }
+
+    @Benchmark
+    public byte[] transactions() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] transactionsGzip() throws JsonProcessingException {
+        return BenchmarkData.gzip(mapper.writeValueAsBytes(transactions));
+    }
+
+    @Benchmark
+    public byte[] forumPosts() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(forumPosts);
+    }
+
+    @Benchmark
+    public byte[] forumPostsGzip() throws JsonProcessingException {
+        return BenchmarkData.gzip(mapper.writeValueAsBytes(forumPosts));
+    }
+
+    @Benchmark
+    public byte[] analytics() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(analytics);
+    }
+}
@@ -0,0 +1,43 @@
+package com.infosys.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Prints the encoded and gzipped size of each benchmarked response per format, so
+ * PayloadEncodingBenchmark's timings can be read against the bytes they save.
+ */
+public final class PayloadSizeReport {
+
+    private static final String[] FORMATS = { "json", "smile", "cbor" };
+    private static final int[] ROWS = { 100, 1000, 10000 };
+
+    private PayloadSizeReport() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, IntFunction<Object>> payloads = Map.of(
+                "transactions", BenchmarkData::transactionRows,
+                "forumPosts", BenchmarkData::forumPostRows,
+                "analytics", BenchmarkData::analyticsPayload);
+
+        System.out.printf("%-14s %6s %-6s %12s %12s %8s%n", "payload", "rows", "format", "bytes", "gzip bytes", "vs json");
+        for (String name : new String[]{ "transactions", "forumPosts", "analytics" }) {
+            for (int rows : ROWS) {
+                Object payload = payloads.get(name).apply(rows);
+                long jsonBytes = 0;
+                for (String format : FORMATS) {
+                    ObjectMapper mapper = BenchmarkData.mapper(format);
+                    byte[] body = mapper.writeValueAsBytes(payload);
+                    byte[] gzipped = BenchmarkData.gzip(body);
+                    if (format.equals("json")) {
+                        jsonBytes = body.length;
+                    }
+                    System.out.printf("%-14s %6d %-6s %12d %12d %7.0f%%%n",
+                            name, rows, format, body.length, gzipped.length, 100.0 * body.length / jsonBytes);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.infosys.benchmark;
+
+import com.infosys.config.JwtUtil;
+import com.infosys.dto.AuthRequest;
+import com.infosys.dto.AuthResponse;
+import com.infosys.model.User;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.AuthService;
+import com.infosys.service.LoginRateLimiter;
+import com.infosys.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk onboarding through AuthService.register: signups that all share one popular email
+ * prefix, against a stub repository already holding takenUsernames of its numbered
+ * variants (john, john1, john2, ...). "plain" hashing isolates username allocation and
+ * token signing from BCrypt; "bcrypt" shows the throughput the hashing pool allows.
+ * The username lookups each signup made are printed after every iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    private static final String PREFIX = "john";
+
+    @Param({"0", "50", "500"})
+    public int takenUsernames;
+
+    @Param({"plain", "bcrypt"})
+    public String hashing;
+
+    private AuthService authService;
+    private PasswordHashingService passwordHashingService;
+    private final AtomicLong signups = new AtomicLong();
+    private final AtomicLong usernameQueries = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Same rows the prefix scan returns on MySQL, including names that only share the prefix
+        List<String> existing = new ArrayList<>();
+        for (int i = 0; i < takenUsernames; i++) {
+            existing.add(i == 0 ? PREFIX : PREFIX + i);
+        }
+        existing.add(PREFIX + "son");
+        existing.add(PREFIX + "ny_k");
+        AtomicLong ids = new AtomicLong();
+
+        UserRepository userRepository = BenchmarkData.repository(UserRepository.class, Map.of(
+                "findSummaryByEmail", BenchmarkData.returning(Optional.empty()),
+                "findUsernamesLike", args -> {
+                    usernameQueries.incrementAndGet();
+                    return existing;
+                },
+                "findByUsername", args -> {
+                    usernameQueries.incrementAndGet();
+                    return existing.contains(args[0]) ? Optional.of(new User()) : Optional.empty();
+                },
+                "save", args -> {
+                    User user = (User) args[0];
+                    user.setId(ids.incrementAndGet());
+                    return user;
+                }));
+
+        passwordHashingService = new PasswordHashingService();
+        BenchmarkData.inject(passwordHashingService, "passwordEncoder",
+                "bcrypt".equals(hashing) ? new BCryptPasswordEncoder(10) : NoOpPasswordEncoder.getInstance());
+        BenchmarkData.inject(passwordHashingService, "meterRegistry", new SimpleMeterRegistry());
+        BenchmarkData.inject(passwordHashingService, "queueSize", 64);
+        BenchmarkData.inject(passwordHashingService, "timeoutMs", 60000L);
+        BenchmarkData.inject(passwordHashingService, "strength", 10);
+        BenchmarkData.invoke(passwordHashingService, "init");
+
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter();
+        BenchmarkData.inject(loginRateLimiter, "ipAttempts", Integer.MAX_VALUE);
+        BenchmarkData.inject(loginRateLimiter, "windowSeconds", 60L);
+
+        JwtUtil jwtUtil = new JwtUtil();
+        BenchmarkData.inject(jwtUtil, "secret", "myVeryLongSecretKeyThatIsAtLeast256BitsLongForJWTSecurity");
+        BenchmarkData.inject(jwtUtil, "expiration", 86400000L);
+
+        authService = new AuthService();
+        BenchmarkData.inject(authService, "userRepository", userRepository);
+        BenchmarkData.inject(authService, "passwordHashingService", passwordHashingService);
+        BenchmarkData.inject(authService, "loginRateLimiter", loginRateLimiter);
+        BenchmarkData.inject(authService, "jwtUtil", jwtUtil);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long count = signups.getAndSet(0);
+        long queries = usernameQueries.getAndSet(0);
+        if (count > 0) {
+            System.out.printf("  usernameQueries: %.1f per signup%n", (double) queries / count);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.invoke(passwordHashingService, "shutdown");
+    }
+
+    @Benchmark
+    public AuthResponse register() {
+        long n = signups.incrementAndGet();
+        AuthRequest request = new AuthRequest();
+        request.setEmail(PREFIX + "@bulk" + n + ".example.com");
+        request.setPassword("onboarding-" + n);
+        request.setName("Bulk User " + n);
+        return authService.register(request, "10.0.0.1");
+    }
+}
@@ -0,0 +1,274 @@
+package com.infosys.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scripted load scenario against a running backend seeded by SyntheticDataGenerator.
+ * Each virtual user logs in as one of the seeded accounts and then loops over the
+ * dashboard, transaction list, forum feed and CSV export until the duration is up.
+ * Prints throughput and latency percentiles per step and writes them to
+ * target/loadtest-result.json.
+ *
+ * loadtest.scenario picks what each virtual user does after logging in: "mixed" (default)
+ * for the browsing mix above, "expenses" for GET /transactions/expenses only, "ai-chat"
+ * for POST /api/ai/chat only.
+ *
+ * Settings are system properties: loadtest.baseUrl, loadtest.scenario, loadtest.users,
+ * loadtest.seededUsers, loadtest.duration (seconds), loadtest.rampUp (seconds),
+ * loadtest.thinkMs, loadtest.password, loadtest.emailPrefix, loadtest.label (free text kept
+ * in the result file, e.g. the server thread mode).
+ */
+public class LoadScenarioRunner {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:9090");
+    private final String scenario = System.getProperty("loadtest.scenario", "mixed");
+    private final int users = Integer.getInteger("loadtest.users", 50);
+    private final int seededUsers = Integer.getInteger("loadtest.seededUsers", 100);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+    private final int rampUpSeconds = Integer.getInteger("loadtest.rampUp", 5);
+    private final int thinkMs = Integer.getInteger("loadtest.thinkMs", 0);
+    private final String password = System.getProperty("loadtest.password", "loadtest123");
+    private final String emailPrefix = System.getProperty("loadtest.emailPrefix", "loaduser");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, StepStats> stats = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        new LoadScenarioRunner().run();
+    }
+
+    LoadScenarioRunner() {
+        List<String> steps = switch (scenario) {
+            case "expenses" -> List.of("login", "expenses");
+            case "ai-chat" -> List.of("login", "ai-chat");
+            case "mixed" -> List.of("login", "dashboard", "transactions", "forum", "export");
+            default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+        };
+        for (String step : steps) {
+            stats.put(step, new StepStats());
+        }
+    }
+
+    void run() throws Exception {
+        System.out.printf("Running %s scenario with %d virtual users against %s for %ds%n",
+                scenario, users, baseUrl, durationSeconds);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds + rampUpSeconds);
+
+        ExecutorService executor = newExecutor(users);
+        for (int i = 0; i < users; i++) {
+            int index = i;
+            long delayNanos = users > 1 ? TimeUnit.SECONDS.toNanos(rampUpSeconds) * i / users : 0;
+            executor.submit(() -> virtualUser(index, startNanos + delayNanos, endNanos));
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + rampUpSeconds + 60L, TimeUnit.SECONDS);
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        report(elapsedSeconds);
+    }
+
+    private void virtualUser(int index, long startAtNanos, long endNanos) {
+        sleepUntil(startAtNanos);
+        String email = emailPrefix + (index % seededUsers + 1) + "@example.com";
+        String token = login(email);
+        if (token == null) {
+            return;
+        }
+        while (System.nanoTime() < endNanos) {
+            if ("expenses".equals(scenario)) {
+                get("expenses", token, "/transactions/expenses");
+            } else if ("ai-chat".equals(scenario)) {
+                post("ai-chat", token, "/api/ai/chat", "{\"message\":\"How can I cut my food spending?\"}");
+            } else {
+                mixedStep(token);
+            }
+            if (thinkMs > 0) {
+                sleepUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(thinkMs));
+            }
+        }
+    }
+
+    private void mixedStep(String token) {
+        int pick = ThreadLocalRandom.current().nextInt(100);
+        // Weighted roughly like real usage: mostly dashboard and lists, exports are rare
+        if (pick < 40) {
+            get("dashboard", token, "/analytics/summary", "/analytics/category-breakdown");
+        } else if (pick < 70) {
+            get("transactions", token, "/transactions/expenses", "/transactions/incomes");
+        } else if (pick < 95) {
+            get("forum", token, "/api/forum/posts");
+        } else {
+            get("export", token, "/api/export/csv");
+        }
+    }
+
+    private String login(String email) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode token = response.statusCode() == 200 ? mapper.readTree(response.body()).get("token") : null;
+            stats.get("login").record(System.nanoTime() - started, token != null && !token.isNull());
+            return token != null && !token.isNull() ? token.asText() : null;
+        } catch (IOException e) {
+            stats.get("login").record(System.nanoTime() - started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // A step may issue several requests (the dashboard loads more than one widget); its latency covers all of them
+    private void get(String step, String token, String... paths) {
+        long started = System.nanoTime();
+        boolean ok = true;
+        try {
+            for (String path : paths) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok &= response.statusCode() < 400;
+            }
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.get(step).record(System.nanoTime() - started, ok);
+    }
+
+    private void post(String step, String token, String path, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(120))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            stats.get(step).record(System.nanoTime() - started, response.statusCode() < 400);
+        } catch (IOException e) {
+            stats.get(step).record(System.nanoTime() - started, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(double elapsedSeconds) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", baseUrl);
+        result.put("scenario", scenario);
+        result.put("label", System.getProperty("loadtest.label", ""));
+        result.put("users", users);
+        result.put("durationSeconds", elapsedSeconds);
+
+        System.out.printf("%n%-14s %9s %7s %10s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, Object> steps = new LinkedHashMap<>();
+        for (Map.Entry<String, StepStats> entry : stats.entrySet()) {
+            long[] samples = entry.getValue().sorted();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", samples.length);
+            row.put("errors", entry.getValue().errors.get());
+            row.put("throughput", samples.length / elapsedSeconds);
+            row.put("p50", percentile(samples, 0.50));
+            row.put("p95", percentile(samples, 0.95));
+            row.put("p99", percentile(samples, 0.99));
+            row.put("max", percentile(samples, 1.0));
+            steps.put(entry.getKey(), row);
+            System.out.printf("%-14s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(), samples.length,
+                    entry.getValue().errors.get(), samples.length / elapsedSeconds, percentile(samples, 0.50),
+                    percentile(samples, 0.95), percentile(samples, 0.99), percentile(samples, 1.0));
+        }
+        result.put("steps", steps);
+
+        File out = new File(System.getProperty("loadtest.resultFile", "target/loadtest-result.json"));
+        out.getParentFile().mkdirs();
+        mapper.writerWithDefaultPrettyPrinter().writeValue(out, result);
+        System.out.println("\nResults written to " + out.getPath());
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1e6;
+    }
+
+    // Virtual threads when running on Java 21+, otherwise one platform thread per virtual user
+    private static ExecutorService newExecutor(int users) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(users);
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class StepStats {
+        private long[] samples = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
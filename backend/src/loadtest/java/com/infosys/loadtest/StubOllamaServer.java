@@ -0,0 +1,44 @@
+package com.infosys.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Stand-in for Ollama's /api/generate that answers after a fixed delay, so the ai-chat
+ * scenario measures the backend rather than the model. Only uses the JDK, so it can be
+ * started straight from source:
+ *
+ *   java src/loadtest/java/com/infosys/loadtest/StubOllamaServer.java [port] [delayMs]
+ */
+public class StubOllamaServer {
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 11435;
+        long delayMs = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+        byte[] body = "{\"model\":\"stub\",\"response\":\"Track every expense for a month.\",\"done\":true}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/api/generate", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        System.out.printf("Stub Ollama listening on %d with %d ms delay%n", port, delayMs);
+    }
+}
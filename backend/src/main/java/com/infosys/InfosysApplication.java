@@ -4,13 +4,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan("com.infosys.model")
 @EnableJpaRepositories("com.infosys.repository")
+@EnableScheduling
 public class InfosysApplication {
     public static void main(String[] args) {
         SpringApplication.run(InfosysApplication.class, args);
-        System.out.println("Backend is running");
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.infosys.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds JDBC concurrency with a semaphore in front of the pool when
+ * app.concurrency.jdbc-permits is set (the virtual profile sets it to the pool size).
+ * Ollama has its own limit in AIService.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency.jdbc-permits")
+public class ConcurrencyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyConfig.class);
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        int permits = environment.getProperty("app.concurrency.jdbc-permits", Integer.class, 10);
+        long acquireTimeoutMs = environment.getProperty("app.concurrency.jdbc-acquire-timeout-ms", Long.class, 30000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+                    log.info("Limiting {} to {} concurrent connections", beanName, permits);
+                    BoundedDataSource bounded = new BoundedDataSource(dataSource, permits, acquireTimeoutMs);
+                    meterRegistry.ifAvailable(registry -> {
+                        Gauge.builder("budgetly.jdbc.permits.available", bounded.getPermits(), Semaphore::availablePermits)
+                                .register(registry);
+                        Gauge.builder("budgetly.jdbc.permits.waiting", bounded.getPermits(), Semaphore::getQueueLength)
+                                .register(registry);
+                    });
+                    return bounded;
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.infosys.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingConfig {
+
+    // Hibernate statements go through the async logger instead of show-sql's System.out
+    public LoggingConfig(LoggingSystem loggingSystem, @Value("${app.sql.debug:false}") boolean sqlDebug) {
+        if (sqlDebug) {
+            loggingSystem.setLogLevel("org.hibernate.SQL", LogLevel.DEBUG);
+            loggingSystem.setLogLevel("org.hibernate.orm.jdbc.bind", LogLevel.TRACE);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.infosys.config;
+
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the native image (mvn -Pnative native:compile).
+ * Spring's AOT pass covers beans, repositories and typed controller signatures; this adds
+ * what it can't see: entities and DTOs serialised behind ResponseEntity<?>, interface
+ * projections requested through Class<T> parameters, jjwt's reflective factories, and
+ * the iText font and opencsv message resources. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : classesIn("com/infosys/model", classLoader)) {
+                hints.reflection().registerType(type, MemberCategory.values());
+                bindings.registerReflectionHints(hints.reflection(), type);
+            }
+            for (Class<?> type : classesIn("com/infosys/dto", classLoader)) {
+                bindings.registerReflectionHints(hints.reflection(), type);
+                if (type.isInterface()) {
+                    // Spring Data projection proxies
+                    hints.proxies().registerJdkProxy(type, TargetAware.class,
+                            SpringProxy.class, DecoratingProxy.class);
+                    hints.proxies().registerJdkProxy(type, TargetAware.class,
+                            SpringProxy.class, Advised.class, DecoratingProxy.class);
+                }
+            }
+
+            // jjwt 0.11 creates its builders and parsers by class name
+            for (String name : new String[]{
+                    "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtParser",
+                    "io.jsonwebtoken.impl.DefaultClaims",
+                    "io.jsonwebtoken.impl.DefaultHeader",
+                    "io.jsonwebtoken.impl.DefaultJwsHeader",
+                    "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                    "io.jsonwebtoken.jackson.io.JacksonDeserializer"}) {
+                hints.reflection().registerType(TypeReference.of(name),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // Standard font metrics and CMaps iText reads from its jars when building a PDF
+            hints.resources().registerPattern("com/itextpdf/io/font/**");
+            hints.resources().registerPattern("com/itextpdf/io/util/**");
+            // opencsv looks up its messages as a resource bundle
+            hints.resources().registerResourceBundle("opencsv");
+            // Second-level cache regions
+            hints.resources().registerPattern("ehcache.xml");
+        }
+
+        private static List<Class<?>> classesIn(String packagePath, ClassLoader classLoader) {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+            CachingMetadataReaderFactory readers = new CachingMetadataReaderFactory(resolver);
+            List<Class<?>> classes = new ArrayList<>();
+            try {
+                for (Resource resource : resolver.getResources("classpath*:" + packagePath + "/**/*.class")) {
+                    MetadataReader reader = readers.getMetadataReader(resource);
+                    classes.add(ClassUtils.forName(reader.getClassMetadata().getClassName(), classLoader));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+            return classes;
+        }
+    }
+}
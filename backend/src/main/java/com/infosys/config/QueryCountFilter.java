@@ -0,0 +1,109 @@
+package com.infosys.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts SQL statements and loaded entities per request, records them as metrics and
+ * warns when a request goes over {@code app.query-guard.max-statements}. With
+ * {@code app.query-guard.expose-header=true} (the dev profile) the counts are also
+ * returned in X-Query-Count / X-Entity-Count headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.query-guard.max-statements:25}")
+    private int maxStatements;
+
+    @Value("${app.query-guard.expose-header:false}")
+    private boolean exposeHeader;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        HttpServletResponse target = exposeHeader ? new CountHeaderResponse(response) : response;
+        QueryCounter.Counts counts;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            counts = QueryCounter.stop();
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+
+        if (counts.getStatements() > maxStatements) {
+            log.warn("{} {} executed {} SQL statements and loaded {} entities (limit {})",
+                    request.getMethod(), uri, counts.getStatements(), counts.getEntities(), maxStatements);
+        }
+    }
+
+    // Sets the headers when the body starts, which is the last point they can still be added
+    private static class CountHeaderResponse extends HttpServletResponseWrapper {
+        private boolean headersWritten;
+
+        CountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void writeHeaders() {
+            if (!headersWritten && !isCommitted()) {
+                headersWritten = true;
+                QueryCounter.Counts counts = QueryCounter.current();
+                setHeader("X-Query-Count", String.valueOf(counts.getStatements()));
+                setHeader("X-Entity-Count", String.valueOf(counts.getEntities()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+    }
+}
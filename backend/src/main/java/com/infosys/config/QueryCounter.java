@@ -0,0 +1,69 @@
+package com.infosys.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Per-thread count of SQL statements and loaded entities. Hibernate feeds it through the
+ * hooks registered in {@link QueryCountConfig}; {@link QueryCountFilter} opens a window
+ * for each HTTP request, and tests open their own around a call to pin its statement
+ * budget (see QueryCounterAssertions in src/test). Windows nest: a statement counts
+ * towards every window open on the thread, so a test window around a MockMvc call still
+ * sees what ran inside the filter's own window.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<Counts>> WINDOWS = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    public static void start() {
+        Deque<Counts> windows = WINDOWS.get();
+        if (windows == null) {
+            windows = new ArrayDeque<>();
+            WINDOWS.set(windows);
+        }
+        windows.push(new Counts());
+    }
+
+    public static Counts stop() {
+        Deque<Counts> windows = WINDOWS.get();
+        Counts counts = windows != null ? windows.poll() : null;
+        if (windows != null && windows.isEmpty()) {
+            WINDOWS.remove();
+        }
+        return counts != null ? counts : new Counts();
+    }
+
+    public static Counts current() {
+        Deque<Counts> windows = WINDOWS.get();
+        Counts counts = windows != null ? windows.peek() : null;
+        return counts != null ? counts : new Counts();
+    }
+
+    static void recordStatement() {
+        Deque<Counts> windows = WINDOWS.get();
+        if (windows != null) {
+            for (Counts counts : windows) {
+                counts.statements++;
+            }
+        }
+    }
+
+    static void recordEntityLoad() {
+        Deque<Counts> windows = WINDOWS.get();
+        if (windows != null) {
+            for (Counts counts : windows) {
+                counts.entities++;
+            }
+        }
+    }
+
+    public static class Counts {
+        private long statements;
+        private long entities;
+
+        public long getStatements() { return statements; }
+        public long getEntities() { return entities; }
+    }
+}
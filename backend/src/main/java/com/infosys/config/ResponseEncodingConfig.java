@@ -0,0 +1,31 @@
+package com.infosys.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary response formats for the mobile app: a request with Accept: application/cbor
+ * or application/x-jackson-smile gets the same body encoded as CBOR or Smile. JSON stays
+ * the default for everything else. Both mappers come from Boot's builder so dates and
+ * spring.jackson.* settings match the JSON output; gzip is applied by the connector
+ * (server.compression.*).
+ */
+@Configuration
+public class ResponseEncodingConfig {
+
+    // Replaces the converters Spring MVC would register with a plain mapper, keeping their place after JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.infosys.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Startup profile: beans named in app.startup.lazy-beans (export, cloud backup and AI by
+ * default) are only created when first used. Lazy controllers still get their mappings
+ * registered; the bean is resolved on the first request it serves.
+ */
+@Configuration
+@Profile("startup")
+public class StartupConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        String[] names = environment.getProperty("app.startup.lazy-beans", String[].class, new String[0]);
+        return beanFactory -> {
+            for (String name : names) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                } else {
+                    log.warn("app.startup.lazy-beans names unknown bean {}", name);
+                }
+            }
+        };
+    }
+}
@@ -3,16 +3,21 @@ package com.infosys.controller;
 import com.infosys.model.User;
 import com.infosys.repository.*;
 import com.infosys.config.JwtUtil;
+import com.infosys.service.AIService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 import java.util.*;
 
 @RestController
 @RequestMapping("/api/ai")
 @CrossOrigin(origins = "http://localhost:3000")
 public class AIController {
+
+    private static final Logger log = LoggerFactory.getLogger(AIController.class);
+
     @Autowired
     private UserRepository userRepository;
     @Autowired
@@ -23,6 +28,8 @@ public class AIController {
     private BudgetRepository budgetRepository;
     @Autowired
     private JwtUtil jwtUtil;
+    @Autowired
+    private AIService aiService;
 
     @PostMapping("/chat")
     public ResponseEntity<?> chat(@RequestHeader("Authorization") String token, @RequestBody Map<String, String> request) {
@@ -57,22 +64,12 @@ public class AIController {
                 request.get("message")
             );
             
-            RestTemplate restTemplate = new RestTemplate();
-            Map<String, Object> ollamaRequest = new HashMap<>();
-            ollamaRequest.put("model", "llama3.2");
-            ollamaRequest.put("prompt", context);
-            ollamaRequest.put("stream", false);
-            
-            Map<String, Object> ollamaResponse = restTemplate.postForObject(
-                "http://localhost:11434/api/generate",
-                ollamaRequest,
-                Map.class
-            );
-            
-            String aiResponse = (String) ollamaResponse.get("response");
+            String aiResponse = aiService.generate(context);
             return ResponseEntity.ok(Map.of("response", aiResponse));
+        } catch (AIService.BusyException e) {
+            return ResponseEntity.ok(Map.of("response", "I'm answering a lot of questions right now. Please try again in a moment."));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("AI chat request failed: {}", e.getMessage());
             return ResponseEntity.ok(Map.of("response", "I'm having trouble connecting. Please ensure Ollama is running."));
         }
     }
@@ -3,11 +3,18 @@ package com.infosys.controller;
 import com.infosys.dto.AuthRequest;
 import com.infosys.dto.AuthResponse;
 import com.infosys.service.AuthService;
+import com.infosys.service.LoginRateLimiter;
+import com.infosys.service.PasswordHashingService;
 import com.infosys.model.SimpleUser;
 import com.infosys.repository.SimpleUserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +23,9 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "http://localhost:3000")
 @Tag(name = "Authentication", description = "User authentication endpoints")
 public class AuthController {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private AuthService authService;
     
@@ -24,10 +34,18 @@ public class AuthController {
 
     @PostMapping("/register")
     @Operation(summary = "Register new user", description = "Create a new user account")
-    public ResponseEntity<AuthResponse> register(@RequestBody AuthRequest request) {
+    public ResponseEntity<AuthResponse> register(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
         try {
-            AuthResponse response = authService.register(request);
+            AuthResponse response = authService.register(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(response);
+        } catch (LoginRateLimiter.RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new AuthResponse(null, e.getMessage()));
+        } catch (PasswordHashingService.BusyException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new AuthResponse(null, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new AuthResponse(null, e.getMessage()));
@@ -36,10 +54,18 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "User login", description = "Authenticate user and return JWT token")
-    public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request) {
+    public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
         try {
-            AuthResponse response = authService.login(request);
+            AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(response);
+        } catch (LoginRateLimiter.RateLimitedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new AuthResponse(null, e.getMessage()));
+        } catch (PasswordHashingService.BusyException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new AuthResponse(null, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new AuthResponse(null, e.getMessage()));
@@ -66,14 +92,13 @@ public class AuthController {
             user.setUserEmail("test@example.com");
             user.setUserPassword("test123");
             
-            System.out.println("Before save: " + user.getUserName() + ", " + user.getUserEmail());
             SimpleUser saved = simpleUserRepository.save(user);
-            System.out.println("After save: ID=" + saved.getId() + ", Name=" + saved.getUserName() + ", Email=" + saved.getUserEmail());
+            log.debug("Saved test user id={}", saved.getId());
             
             long count = simpleUserRepository.count();
             return ResponseEntity.ok("User saved with ID: " + saved.getId() + ". Total simple users: " + count);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Test save failed", e);
             return ResponseEntity.badRequest().body("Save error: " + e.getMessage());
         }
     }
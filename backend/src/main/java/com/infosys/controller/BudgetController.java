@@ -1,28 +1,40 @@
 package com.infosys.controller;
 
+import com.infosys.dto.BudgetStatus;
+import com.infosys.dto.BudgetTemplateRequest;
+import com.infosys.dto.BudgetView;
+import com.infosys.dto.SavingsGoalView;
 import com.infosys.model.Budget;
+import com.infosys.model.BudgetAlert;
 import com.infosys.model.SavingsGoal;
-import com.infosys.model.Expense;
+import com.infosys.repository.BudgetAlertRepository;
 import com.infosys.repository.BudgetRepository;
 import com.infosys.repository.SavingsGoalRepository;
-import com.infosys.repository.ExpenseRepository;
 import com.infosys.repository.UserRepository;
+import com.infosys.service.BudgetService;
+import com.infosys.service.BudgetStatusService;
+import com.infosys.service.BudgetTemplateService;
+import com.infosys.service.FieldSelectionService;
+import com.infosys.service.SavingsService;
 import com.infosys.config.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.time.LocalDateTime;
-import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/budget")
 @CrossOrigin(origins = "http://localhost:3000")
 @Tag(name = "Budget & Savings", description = "Budget and savings goals management")
 public class BudgetController {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetController.class);
     
     @Autowired
     private BudgetRepository budgetRepository;
@@ -31,10 +43,25 @@ public class BudgetController {
     private SavingsGoalRepository savingsGoalRepository;
     
     @Autowired
-    private ExpenseRepository expenseRepository;
+    private UserRepository userRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private BudgetAlertRepository budgetAlertRepository;
+    
+    @Autowired
+    private BudgetService budgetService;
+    
+    @Autowired
+    private BudgetStatusService budgetStatusService;
+    
+    @Autowired
+    private BudgetTemplateService budgetTemplateService;
+    
+    @Autowired
+    private SavingsService savingsService;
+    
+    @Autowired
+    private FieldSelectionService fieldSelectionService;
     
     @Autowired
     private JwtUtil jwtUtil;
@@ -46,42 +73,101 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            Budget budget = budgetRepository.findByUserIdAndCategoryAndMonthAndYear(
-                userId, request.getCategory(), request.getMonth(), request.getYear())
-                .orElse(new Budget());
-            
-            budget.setUserId(userId);
-            budget.setCategory(request.getCategory());
-            budget.setBudgetAmount(request.getBudgetAmount());
-            budget.setMonth(request.getMonth());
-            budget.setYear(request.getYear());
-            budget.setUpdatedAt(LocalDateTime.now());
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            budgetRepository.save(budget);
+            budgetService.setBudget(userId, request.getCategory(), request.getBudgetAmount(), request.getMonth(), request.getYear());
             return ResponseEntity.ok(new MessageResponse("Budget set successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
         }
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Set budgets in bulk", description = "Set budgets for several categories over a range of months, optionally rolling over unspent amounts")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> setBudgetsInBulk(@RequestBody BudgetTemplateRequest request, @RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.substring(7);
+            String email = jwtUtil.extractEmail(jwt);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
+            
+            int written = budgetTemplateService.applyTemplate(userId, request);
+            return ResponseEntity.ok(new MessageResponse(written + " budgets set successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
     @GetMapping("/monthly/{month}/{year}")
     @Operation(summary = "Get monthly budgets", description = "Get all budgets for a specific month")
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<?> getMonthlyBudgets(@PathVariable Integer month, @PathVariable Integer year, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getMonthlyBudgets(@PathVariable Integer month, @PathVariable Integer year, @RequestParam(required = false) String fields, @RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+            if (fields != null) {
+                return ResponseEntity.ok(fieldSelectionService.select(Budget.class, fieldSelectionService.parse(fields, BudgetView.FIELDS),
+                        Map.of("userId", userId, "month", month, "year", year), null));
+            }
+            List<BudgetView> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year, BudgetView.class);
             return ResponseEntity.ok(budgets);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
         }
     }
 
+    @GetMapping("/status/{month}/{year}")
+    @Operation(summary = "Get budget status", description = "Spent, remaining, percent used and projected month-end spend per budget")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getBudgetStatus(@PathVariable Integer month, @PathVariable Integer year, @RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.substring(7);
+            String email = jwtUtil.extractEmail(jwt);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
+            
+            List<BudgetStatus> status = budgetStatusService.getStatus(userId, month, year);
+            return ResponseEntity.ok(status);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/alerts")
+    @Operation(summary = "Get budget alerts", description = "Recent 80% and 100% budget threshold alerts, newest first")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getBudgetAlerts(@RequestParam(defaultValue = "false") boolean unreadOnly, @RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.substring(7);
+            String email = jwtUtil.extractEmail(jwt);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
+            
+            List<BudgetAlert> alerts = unreadOnly
+                ? budgetAlertRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId)
+                : budgetAlertRepository.findTop50ByUserIdOrderByCreatedAtDesc(userId);
+            return ResponseEntity.ok(alerts);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/alerts/read")
+    @Operation(summary = "Mark budget alerts read", description = "Mark all of the user's budget alerts as read")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> markBudgetAlertsRead(@RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.substring(7);
+            String email = jwtUtil.extractEmail(jwt);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
+            
+            budgetAlertRepository.markAllRead(userId);
+            return ResponseEntity.ok(new MessageResponse("Alerts marked as read"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
     @PostMapping("/savings-goal")
     @Operation(summary = "Create savings goal", description = "Create a new savings goal")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -89,15 +175,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            SavingsGoal goal = new SavingsGoal();
-            goal.setUserId(userId);
-            goal.setGoalName(request.getGoalName());
-            goal.setTargetAmount(request.getTargetAmount());
-            goal.setTargetDate(request.getTargetDate());
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            SavingsGoal savedGoal = savingsGoalRepository.save(goal);
+            SavingsGoal savedGoal = savingsService.createGoal(userId, request.getGoalName(), request.getTargetAmount(), request.getTargetDate());
             return ResponseEntity.ok(savedGoal);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -107,13 +187,17 @@ public class BudgetController {
     @GetMapping("/savings-goals")
     @Operation(summary = "Get savings goals", description = "Get all user savings goals")
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<?> getSavingsGoals(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getSavingsGoals(@RequestParam(required = false) String fields, @RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            List<SavingsGoal> goals = savingsGoalRepository.findByUserId(userId);
+            if (fields != null) {
+                return ResponseEntity.ok(fieldSelectionService.select(SavingsGoal.class, fieldSelectionService.parse(fields, SavingsGoalView.FIELDS),
+                        Map.of("userId", userId), null));
+            }
+            List<SavingsGoalView> goals = savingsGoalRepository.findByUserId(userId, SavingsGoalView.class);
             return ResponseEntity.ok(goals);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -127,20 +211,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            Budget budget = budgetRepository.findById(id).orElseThrow(() -> new RuntimeException("Budget not found"));
-            if (!budget.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            budget.setCategory(request.getCategory());
-            budget.setBudgetAmount(request.getBudgetAmount());
-            budget.setMonth(request.getMonth());
-            budget.setYear(request.getYear());
-            budget.setUpdatedAt(LocalDateTime.now());
-            
-            budgetRepository.save(budget);
+            budgetService.updateBudget(userId, id, request.getCategory(), request.getBudgetAmount(), request.getMonth(), request.getYear());
             return ResponseEntity.ok(new MessageResponse("Budget updated successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -154,14 +227,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            Budget budget = budgetRepository.findById(id).orElseThrow(() -> new RuntimeException("Budget not found"));
-            if (!budget.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            budgetRepository.deleteById(id);
+            budgetService.deleteBudget(userId, id);
             return ResponseEntity.ok(new MessageResponse("Budget deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -175,19 +243,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            SavingsGoal goal = savingsGoalRepository.findById(id).orElseThrow(() -> new RuntimeException("Savings goal not found"));
-            if (!goal.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            goal.setGoalName(request.getGoalName());
-            goal.setTargetAmount(request.getTargetAmount());
-            goal.setTargetDate(request.getTargetDate());
-            goal.setUpdatedAt(LocalDateTime.now());
-            
-            savingsGoalRepository.save(goal);
+            savingsService.updateGoal(userId, id, request.getGoalName(), request.getTargetAmount(), request.getTargetDate());
             return ResponseEntity.ok(new MessageResponse("Savings goal updated successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -201,14 +259,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            SavingsGoal goal = savingsGoalRepository.findById(id).orElseThrow(() -> new RuntimeException("Savings goal not found"));
-            if (!goal.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
-            
-            savingsGoalRepository.deleteById(id);
+            savingsService.deleteGoal(userId, id);
             return ResponseEntity.ok(new MessageResponse("Savings goal deleted successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -225,20 +278,9 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            SavingsGoal goal = savingsGoalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Savings goal not found"));
-            
-            if (!goal.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
-            
-            // Update savings goal
-            goal.setCurrentAmount(goal.getCurrentAmount().add(request.getAmount()));
-            goal.setUpdatedAt(LocalDateTime.now());
-            savingsGoalRepository.save(goal);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
+            savingsService.addToGoal(userId, id, request.getAmount());
             return ResponseEntity.ok(new MessageResponse("Amount added to savings goal successfully"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -252,33 +294,13 @@ public class BudgetController {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            Long userId = userRepository.findByEmail(email).get().getId();
-            
-            SavingsGoal goal = savingsGoalRepository.findById(request.getGoalId())
-                .orElseThrow(() -> new RuntimeException("Savings goal not found"));
-            
-            if (!goal.getUserId().equals(userId)) {
-                throw new RuntimeException("Unauthorized");
-            }
-            
-            // Update savings goal
-            goal.setCurrentAmount(goal.getCurrentAmount().add(request.getAmount()));
-            goal.setUpdatedAt(LocalDateTime.now());
-            savingsGoalRepository.save(goal);
+            Long userId = userRepository.findSummaryByEmail(email).get().getId();
             
-            // Create expense transaction
-            Expense expense = new Expense();
-            expense.setUserId(userId);
-            expense.setAmount(request.getAmount().doubleValue());
-            expense.setDescription(request.getDescription() != null ? request.getDescription() : "Savings Transfer");
-            expense.setCategory("Savings");
-            expense.setTransactionDate(LocalDate.now().toString());
-            expense.setCreatedAt(LocalDateTime.now());
-            expenseRepository.save(expense);
+            savingsService.transferToGoal(userId, request.getGoalId(), request.getAmount(), request.getDescription());
             
             return ResponseEntity.ok(new MessageResponse("Money transferred to savings goal successfully"));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Savings transfer failed", e);
             return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
         }
     }
@@ -1,7 +1,7 @@
 package com.infosys.controller;
 
 import com.infosys.config.JwtUtil;
-import com.infosys.model.User;
+import com.infosys.dto.UserSummary;
 import com.infosys.repository.UserRepository;
 import com.infosys.service.ExportService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,7 +46,7 @@ public class CloudBackupController {
     public ResponseEntity<?> backupToGoogleDrive(@RequestHeader("Authorization") String token, @RequestParam String accessToken) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElseThrow();
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
             
             // Placeholder for JSON export - implement if needed
             String jsonData = "{}";
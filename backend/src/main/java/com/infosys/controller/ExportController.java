@@ -19,7 +19,7 @@ import com.infosys.config.JwtUtil;
 import com.infosys.model.Budget;
 import com.infosys.model.Expense;
 import com.infosys.model.Income;
-import com.infosys.model.User;
+import com.infosys.dto.UserSummary;
 import com.infosys.repository.BudgetRepository;
 import com.infosys.repository.ExpenseRepository;
 import com.infosys.repository.IncomeRepository;
@@ -65,7 +65,7 @@ public class ExportController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             Long userId = user.getId();
@@ -138,7 +138,7 @@ public class ExportController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             Long userId = user.getId();
@@ -2,14 +2,18 @@ package com.infosys.controller;
 
 import com.infosys.model.ForumPost;
 import com.infosys.model.ForumComment;
-import com.infosys.model.User;
+import com.infosys.dto.ForumPostView;
+import com.infosys.dto.UserSummary;
 import com.infosys.repository.ForumPostRepository;
 import com.infosys.repository.ForumCommentRepository;
 import com.infosys.repository.UserRepository;
+import com.infosys.service.FieldSelectionService;
 import com.infosys.config.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +27,8 @@ import java.util.Map;
 @Tag(name = "Forum", description = "Community forum endpoints")
 public class ForumController {
 
+    private static final Logger log = LoggerFactory.getLogger(ForumController.class);
+
     @Autowired
     private ForumPostRepository forumPostRepository;
 
@@ -32,14 +38,21 @@ public class ForumController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FieldSelectionService fieldSelectionService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
     @GetMapping("/posts")
-    @Operation(summary = "Get all forum posts", description = "Retrieve all forum posts")
-    public ResponseEntity<?> getAllPosts() {
+    @Operation(summary = "Get all forum posts", description = "Retrieve all forum posts without their comments; fields= limits the returned columns")
+    public ResponseEntity<?> getAllPosts(@RequestParam(required = false) String fields) {
         try {
-            List<ForumPost> posts = forumPostRepository.findAllByOrderByCreatedAtDesc();
+            if (fields != null) {
+                return ResponseEntity.ok(fieldSelectionService.select(ForumPost.class,
+                        fieldSelectionService.parse(fields, ForumPostView.FIELDS), Map.of(), "createdAt"));
+            }
+            List<ForumPostView> posts = forumPostRepository.findAllByOrderByCreatedAtDesc(ForumPostView.class);
             return ResponseEntity.ok(posts);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("message", "Error fetching posts: " + e.getMessage()));
@@ -64,16 +77,12 @@ public class ForumController {
     @SecurityRequirement(name = "Bearer Authentication")
     public ResponseEntity<?> createPost(@RequestHeader("Authorization") String token, @RequestBody Map<String, String> request) {
         try {
-            System.out.println("Creating forum post...");
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            System.out.println("User email: " + email);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
-            System.out.println("User found: " + user.getFullName() + " (ID: " + user.getId() + ")");
-            
             ForumPost post = new ForumPost();
             post.setUserId(user.getId());
             post.setUserName(user.getFullName() != null ? user.getFullName() : user.getUsername());
@@ -84,14 +93,12 @@ public class ForumController {
             post.setUpdatedAt(LocalDateTime.now());
             post.setLikesCount(0);
             
-            System.out.println("Saving post...");
             ForumPost savedPost = forumPostRepository.save(post);
-            System.out.println("Post saved successfully with ID: " + savedPost.getId());
+            log.debug("User {} created forum post {}", user.getId(), savedPost.getId());
             
             return ResponseEntity.ok(savedPost);
         } catch (Exception e) {
-            System.err.println("Error creating post: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error creating forum post", e);
             return ResponseEntity.status(500).body(Map.of("message", "Error creating post: " + e.getMessage()));
         }
     }
@@ -107,7 +114,7 @@ public class ForumController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             ForumPost post = forumPostRepository.findById(id)
@@ -138,7 +145,7 @@ public class ForumController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             ForumPost post = forumPostRepository.findById(id)
@@ -162,7 +169,7 @@ public class ForumController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             ForumPost post = forumPostRepository.findById(id)
@@ -193,7 +200,7 @@ public class ForumController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             ForumPost post = forumPostRepository.findById(id)
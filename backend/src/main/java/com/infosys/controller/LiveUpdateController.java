@@ -0,0 +1,54 @@
+package com.infosys.controller;
+
+import com.infosys.config.JwtUtil;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.LiveUpdateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/live")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Live Updates", description = "Server-sent events for open dashboards")
+public class LiveUpdateController {
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // EventSource can't send headers, so the JWT may also come as ?access_token=
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Open live update stream",
+            description = "Server-sent events: transaction, budget and savings deltas as they commit, "
+                    + "resync when the client fell behind, and a heartbeat comment every 25 seconds")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> stream(@RequestHeader(value = "Authorization", required = false) String token,
+                                    @RequestParam(value = "access_token", required = false) String accessToken) {
+        try {
+            String jwt = token != null && token.startsWith("Bearer ") ? token.substring(7) : accessToken;
+            if (jwt == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            String email = jwtUtil.extractEmail(jwt);
+            Long userId = userRepository.findSummaryByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("User not found"))
+                    .getId();
+            return ResponseEntity.ok(liveUpdateService.connect(userId));
+        } catch (LiveUpdateService.LimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.infosys.controller;
+
+import com.infosys.config.JwtUtil;
+import com.infosys.dto.RecurringTransactionRequest;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.RecurringTransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/transactions/recurring")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Recurring Transactions", description = "Templates for income and expenses that repeat on a schedule")
+public class RecurringTransactionController {
+
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @GetMapping
+    @Operation(summary = "List recurring transactions", description = "All recurring templates of the user, next due first")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> list(@RequestHeader("Authorization") String token) {
+        try {
+            return ResponseEntity.ok(recurringTransactionService.findByUser(userId(token)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    @PostMapping
+    @Operation(summary = "Create recurring transaction", description = "Frequency is DAILY, WEEKLY, MONTHLY or CRON (with cronExpression)")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> create(@RequestBody RecurringTransactionRequest request, @RequestHeader("Authorization") String token) {
+        try {
+            return ResponseEntity.ok(recurringTransactionService.create(userId(token), request));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update recurring transaction")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> update(@PathVariable Long id, @RequestBody RecurringTransactionRequest request,
+                                    @RequestHeader("Authorization") String token) {
+        try {
+            return ResponseEntity.ok(recurringTransactionService.update(userId(token), id, request));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete recurring transaction", description = "Stops future occurrences; already created transactions are kept")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> delete(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+        try {
+            recurringTransactionService.delete(userId(token), id);
+            return ResponseEntity.ok(new MessageResponse("Recurring transaction deleted successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    private Long userId(String token) {
+        String email = jwtUtil.extractEmail(token.substring(7));
+        return userRepository.findSummaryByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"))
+                .getId();
+    }
+
+    static class MessageResponse {
+        private String message;
+        public MessageResponse(String message) { this.message = message; }
+        public String getMessage() { return message; }
+    }
+}
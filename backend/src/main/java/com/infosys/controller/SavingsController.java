@@ -2,11 +2,14 @@ package com.infosys.controller;
 
 import com.infosys.config.JwtUtil;
 import com.infosys.model.Savings;
-import com.infosys.model.User;
-import com.infosys.model.Expense;
+import com.infosys.dto.SavingsView;
+import com.infosys.dto.UserSummary;
 import com.infosys.repository.SavingsRepository;
 import com.infosys.repository.UserRepository;
-import com.infosys.repository.ExpenseRepository;
+import com.infosys.service.FieldSelectionService;
+import com.infosys.service.SavingsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +24,8 @@ import java.util.HashMap;
 @CrossOrigin(origins = "http://localhost:3000")
 public class SavingsController {
 
+    private static final Logger log = LoggerFactory.getLogger(SavingsController.class);
+
     @Autowired
     private SavingsRepository savingsRepository;
 
@@ -28,17 +33,24 @@ public class SavingsController {
     private UserRepository userRepository;
     
     @Autowired
-    private ExpenseRepository expenseRepository;
+    private SavingsService savingsService;
+    
+    @Autowired
+    private FieldSelectionService fieldSelectionService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
     @GetMapping
-    public ResponseEntity<List<Savings>> getAllSavings(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<?>> getAllSavings(@RequestHeader("Authorization") String token, @RequestParam(required = false) String fields) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElseThrow();
-            List<Savings> savings = savingsRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
+            if (fields != null) {
+                return ResponseEntity.ok(fieldSelectionService.select(Savings.class,
+                        fieldSelectionService.parse(fields, SavingsView.FIELDS), Map.of("userId", user.getId()), "createdAt"));
+            }
+            List<SavingsView> savings = savingsRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), SavingsView.class);
             return ResponseEntity.ok(savings);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -49,7 +61,7 @@ public class SavingsController {
     public ResponseEntity<Savings> addSavings(@RequestHeader("Authorization") String token, @RequestBody Map<String, Object> request) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElseThrow();
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
 
             Savings savings = new Savings();
             savings.setUserId(user.getId());
@@ -60,57 +72,30 @@ public class SavingsController {
             savings.setCreatedAt(LocalDateTime.now());
             savings.setUpdatedAt(LocalDateTime.now());
 
-            Savings savedSavings = savingsRepository.save(savings);
-            
-            // Create expense transaction for savings transfer
-            createSavingsExpenseTransaction(user.getId(), savings.getAmount(), savings.getGoalName(), savings.getDescription());
-            
+            Savings savedSavings = savingsService.add(savings);
             return ResponseEntity.ok(savedSavings);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
-    private void createSavingsExpenseTransaction(Long userId, BigDecimal amount, String goalName, String description) {
-        try {
-            Expense expense = new Expense();
-            expense.setUserId(userId);
-            expense.setAmount(amount.doubleValue());
-            expense.setCategory("Savings");
-            expense.setDescription("Transfer to " + goalName + (description != null && !description.isEmpty() ? " - " + description : ""));
-            expense.setTransactionDate(LocalDateTime.now().toString());
-            expense.setCreatedAt(LocalDateTime.now());
-            
-            expenseRepository.save(expense);
-            System.out.println("Created savings expense transaction: " + amount + " for " + goalName);
-        } catch (Exception e) {
-            System.err.println("Failed to create expense transaction for savings: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
     @PutMapping("/{id}")
     public ResponseEntity<Savings> updateSavings(@RequestHeader("Authorization") String token, @PathVariable Long id, @RequestBody Map<String, Object> request) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
             
-            Savings savings = savingsRepository.findById(id).orElseThrow(() -> new RuntimeException("Savings not found"));
-            if (!savings.getUserId().equals(user.getId())) {
+            Savings updatedSavings = savingsService.update(user.getId(), id,
+                    (String) request.get("goalName"),
+                    new BigDecimal(request.get("amount").toString()),
+                    new BigDecimal(request.get("targetAmount").toString()),
+                    (String) request.get("description"));
+            if (updatedSavings == null) {
                 return ResponseEntity.status(403).build();
             }
-            
-            savings.setGoalName((String) request.get("goalName"));
-            savings.setAmount(new BigDecimal(request.get("amount").toString()));
-            savings.setTargetAmount(new BigDecimal(request.get("targetAmount").toString()));
-            savings.setDescription((String) request.get("description"));
-            savings.setUpdatedAt(LocalDateTime.now());
-            
-            Savings updatedSavings = savingsRepository.save(savings);
             return ResponseEntity.ok(updatedSavings);
         } catch (Exception e) {
-            System.err.println("Error updating savings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error updating savings {}", id, e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -119,30 +104,19 @@ public class SavingsController {
     public ResponseEntity<Map<String, String>> deleteSavings(@RequestHeader("Authorization") String token, @PathVariable Long id) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElse(null);
+            UserSummary user = userRepository.findSummaryByEmail(email).orElse(null);
             
             if (user == null) {
                 return ResponseEntity.status(401).body(Map.of("error", "Unauthorized"));
             }
             
-            // Find savings by user to ensure ownership
-            List<Savings> userSavings = savingsRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
-            Savings targetSaving = userSavings.stream()
-                .filter(s -> s.getId().equals(id))
-                .findFirst()
-                .orElse(null);
-            
-            if (targetSaving == null) {
+            if (!savingsService.delete(user.getId(), id)) {
                 return ResponseEntity.status(404).body(Map.of("error", "Savings not found or access denied"));
             }
             
-            // Simple delete
-            savingsRepository.deleteById(id);
-            
             return ResponseEntity.ok(Map.of("message", "Savings deleted successfully"));
         } catch (Exception e) {
-            System.err.println("Error deleting savings ID " + id + ": " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error deleting savings {}", id, e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to delete: " + e.getMessage()));
         }
     }
@@ -151,9 +125,8 @@ public class SavingsController {
     public ResponseEntity<Map<String, BigDecimal>> getTotalSavings(@RequestHeader("Authorization") String token) {
         try {
             String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User user = userRepository.findByEmail(email).orElseThrow();
-            BigDecimal total = savingsRepository.getTotalSavingsByUserId(user.getId());
-            return ResponseEntity.ok(Map.of("total", total != null ? total : BigDecimal.ZERO));
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
+            return ResponseEntity.ok(Map.of("total", savingsService.getBalance(user.getId())));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
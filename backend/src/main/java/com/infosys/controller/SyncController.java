@@ -0,0 +1,52 @@
+package com.infosys.controller;
+
+import com.infosys.config.JwtUtil;
+import com.infosys.repository.UserRepository;
+import com.infosys.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sync")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Sync", description = "Incremental sync for offline-capable clients")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get changes since a sync token",
+            description = "Incomes, expenses, budgets, savings goals and savings changed after the token, plus deleted ids. "
+                    + "Omit since for a full load; keep calling with the returned token while hasMore is true")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getChanges(@RequestParam(required = false) String since,
+                                        @RequestParam(defaultValue = "500") int limit,
+                                        @RequestHeader("Authorization") String token) {
+        try {
+            String email = jwtUtil.extractEmail(token.substring(7));
+            Long userId = userRepository.findSummaryByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("User not found"))
+                    .getId();
+            return ResponseEntity.ok(syncService.getChanges(userId, since, limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    static class MessageResponse {
+        private String message;
+        public MessageResponse(String message) { this.message = message; }
+        public String getMessage() { return message; }
+    }
+}
@@ -33,24 +33,28 @@ public class TransactionController {
     }
 
     @GetMapping("/incomes")
-    @Operation(summary = "Get incomes", description = "Retrieve all user income transactions")
+    @Operation(summary = "Get incomes", description = "Retrieve all user income transactions; fields= limits the returned columns")
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<?> getIncomes(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getIncomes(
+            @RequestParam(required = false) String fields,
+            @RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7);
-            return ResponseEntity.ok(transactionService.getIncomes(jwt));
+            return ResponseEntity.ok(transactionService.getIncomes(jwt, fields));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new TransactionResponse(e.getMessage()));
         }
     }
 
     @GetMapping("/expenses")
-    @Operation(summary = "Get expenses", description = "Retrieve all user expense transactions")
+    @Operation(summary = "Get expenses", description = "Retrieve all user expense transactions; fields= limits the returned columns")
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<?> getExpenses(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> getExpenses(
+            @RequestParam(required = false) String fields,
+            @RequestHeader("Authorization") String token) {
         try {
             String jwt = token.substring(7);
-            return ResponseEntity.ok(transactionService.getExpenses(jwt));
+            return ResponseEntity.ok(transactionService.getExpenses(jwt, fields));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new TransactionResponse(e.getMessage()));
         }
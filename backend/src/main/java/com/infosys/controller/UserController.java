@@ -5,13 +5,18 @@ import com.infosys.model.Profile;
 import com.infosys.repository.*;
 import com.infosys.config.JwtUtil;
 import com.infosys.dto.ProfileRequest;
+import com.infosys.dto.UserProfileView;
+import com.infosys.dto.UserSummary;
+import com.infosys.service.AccountPurgeService;
+import com.infosys.service.ProfileImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 
 @RestController
@@ -19,6 +24,9 @@ import java.time.LocalDateTime;
 @CrossOrigin(origins = "http://localhost:3000")
 @Tag(name = "User Profile", description = "User profile management endpoints")
 public class UserController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
     @Autowired
     private UserRepository userRepository;
     
@@ -29,16 +37,10 @@ public class UserController {
     private JwtUtil jwtUtil;
     
     @Autowired
-    private IncomeRepository incomeRepository;
-    
-    @Autowired
-    private ExpenseRepository expenseRepository;
+    private AccountPurgeService accountPurgeService;
     
     @Autowired
-    private BudgetRepository budgetRepository;
-    
-    @Autowired
-    private SavingsGoalRepository savingsGoalRepository;
+    private ProfileImageService profileImageService;
 
     @GetMapping("/profile")
     @Operation(summary = "Get user profile", description = "Retrieve user profile information")
@@ -48,7 +50,7 @@ public class UserController {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserProfileView user = userRepository.findProfileByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
             return ResponseEntity.ok(user);
@@ -89,51 +91,44 @@ public class UserController {
                 user.setFinancialGoal(updatedUser.getFinancialGoal());
             }
             if (updatedUser.getProfileImage() != null) {
-                user.setProfileImage(updatedUser.getProfileImage());
+                // Images live in profile_images; the user row only keeps the reference URL
+                if (updatedUser.getProfileImage().isEmpty()) {
+                    profileImageService.delete(user);
+                } else if (updatedUser.getProfileImage().startsWith("data:")) {
+                    profileImageService.storeDataUri(user, updatedUser.getProfileImage());
+                }
             }
             user.setUpdatedAt(LocalDateTime.now());
             
             userRepository.save(user);
             
-            return ResponseEntity.ok(user);
+            return ResponseEntity.ok(userRepository.findProfileByEmail(user.getEmail()).orElseThrow());
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Profile update failed: {}", e.getMessage());
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
         }
     }
     
     @DeleteMapping("/reset-data")
-    @Operation(summary = "Reset all user data", description = "Delete all transactions, budgets, and savings goals for the user")
+    @Operation(summary = "Reset all user data", description = "Delete all transactions, budgets, savings and savings goals for the user")
     @SecurityRequirement(name = "Bearer Authentication")
-    @Transactional
-    public ResponseEntity<?> resetUserData(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> resetUserData(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
         try {
-            System.out.println("Reset data endpoint called");
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
-            System.out.println("User email: " + email);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
-            Long userId = user.getId();
-            System.out.println("User ID: " + userId);
-            
-            // Delete all user's financial data
-            System.out.println("Deleting incomes...");
-            incomeRepository.deleteByUserId(userId);
-            System.out.println("Deleting expenses...");
-            expenseRepository.deleteByUserId(userId);
-            System.out.println("Deleting budgets...");
-            budgetRepository.deleteByUserId(userId);
-            System.out.println("Deleting savings goals...");
-            savingsGoalRepository.deleteByUserId(userId);
-            System.out.println("All data deleted successfully");
+            if (async) {
+                return ResponseEntity.accepted().body(accountPurgeService.submit(user.getId(), email, false));
+            }
+            accountPurgeService.resetFinancialData(user.getId());
             
             return ResponseEntity.ok(new MessageResponse("All data has been reset successfully"));
         } catch (Exception e) {
-            System.err.println("Error resetting data: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.badRequest().body(new MessageResponse("Error resetting data: " + e.getMessage()));
         }
     }
@@ -141,25 +136,20 @@ public class UserController {
     @DeleteMapping("/delete-account")
     @Operation(summary = "Delete user account", description = "Permanently delete user account and all associated data")
     @SecurityRequirement(name = "Bearer Authentication")
-    public ResponseEntity<?> deleteAccount(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> deleteAccount(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
         try {
             String jwt = token.substring(7);
             String email = jwtUtil.extractEmail(jwt);
             
-            User user = userRepository.findByEmail(email)
+            UserSummary user = userRepository.findSummaryByEmail(email)
                     .orElseThrow(() -> new RuntimeException("User not found"));
             
-            Long userId = user.getId();
-            
-            // Delete all user's data
-            incomeRepository.deleteByUserId(userId);
-            expenseRepository.deleteByUserId(userId);
-            budgetRepository.deleteByUserId(userId);
-            savingsGoalRepository.deleteByUserId(userId);
-            profileRepository.findByUserId(userId).ifPresent(profile -> profileRepository.delete(profile));
-            
-            // Finally delete the user account
-            userRepository.delete(user);
+            if (async) {
+                return ResponseEntity.accepted().body(accountPurgeService.submit(user.getId(), email, true));
+            }
+            accountPurgeService.deleteAccount(user.getId());
             
             return ResponseEntity.ok(new MessageResponse("Account deleted successfully"));
         } catch (Exception e) {
@@ -167,6 +157,24 @@ public class UserController {
         }
     }
     
+    @GetMapping("/purge-jobs/{jobId}")
+    @Operation(summary = "Get data purge progress", description = "Progress of an asynchronous reset-data or delete-account request")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<?> getPurgeJob(@PathVariable String jobId, @RequestHeader("Authorization") String token) {
+        try {
+            String jwt = token.substring(7);
+            String email = jwtUtil.extractEmail(jwt);
+            
+            AccountPurgeService.PurgeJob job = accountPurgeService.getJob(jobId, email);
+            if (job == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(job);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Invalid token"));
+        }
+    }
+    
     static class UserProfileResponse {
         private String name;
         private String email;
@@ -1,13 +1,20 @@
 package com.infosys.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import com.infosys.dto.UserProfileView;
+import com.infosys.dto.UserSummary;
+import com.infosys.model.ProfileImage;
 import com.infosys.model.User;
 import com.infosys.repository.UserRepository;
-import java.util.Base64;
+import com.infosys.service.ProfileImageService;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/users")
@@ -17,9 +24,12 @@ public class UserProfileController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProfileImageService profileImageService;
+
     @GetMapping("/{username}")
     public ResponseEntity<?> getProfile(@PathVariable String username) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
+        Optional<UserProfileView> userOpt = userRepository.findProfileByUsername(username);
         if (!userOpt.isPresent()) {
             return ResponseEntity.notFound().build();
         }
@@ -42,8 +52,8 @@ public class UserProfileController {
         if (updatedUser.getFinancialGoal() != null) user.setFinancialGoal(updatedUser.getFinancialGoal());
         if (updatedUser.getFinancialScore() != null) user.setFinancialScore(updatedUser.getFinancialScore());
         
-        User savedUser = userRepository.save(user);
-        return ResponseEntity.ok(savedUser);
+        userRepository.save(user);
+        return ResponseEntity.ok(userRepository.findProfileByUsername(username).orElseThrow());
     }
 
     @PostMapping("/{username}/upload-image")
@@ -54,14 +64,9 @@ public class UserProfileController {
                 return ResponseEntity.notFound().build();
             }
 
-            User user = userOpt.get();
-            String base64Image = Base64.getEncoder().encodeToString(file.getBytes());
-            String imageData = "data:" + file.getContentType() + ";base64," + base64Image;
-            
-            user.setProfileImage(imageData);
-            userRepository.save(user);
+            String reference = profileImageService.store(userOpt.get(), file.getBytes());
 
-            return ResponseEntity.ok().body("{\"message\":\"Image uploaded successfully\"}");
+            return ResponseEntity.ok().body("{\"message\":\"Image uploaded successfully\",\"profileImage\":\"" + reference + "\"}");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("{\"error\":\"Failed to upload image\"}");
         }
@@ -75,13 +80,60 @@ public class UserProfileController {
                 return ResponseEntity.notFound().build();
             }
 
-            User user = userOpt.get();
-            user.setProfileImage(null);
-            userRepository.save(user);
+            profileImageService.delete(userOpt.get());
 
             return ResponseEntity.ok().body("{\"message\":\"Image deleted successfully\"}");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("{\"error\":\"Failed to delete image\"}");
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{username}/image")
+    public ResponseEntity<byte[]> getProfileImage(
+            @PathVariable String username,
+            @RequestParam(value = "size", defaultValue = ProfileImageService.AVATAR) String size,
+            WebRequest webRequest) {
+        if (!ProfileImageService.isVariant(size)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<UserSummary> userOpt = userRepository.findSummaryByUsername(username);
+        if (!userOpt.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        Long userId = userOpt.get().getId();
+
+        // Answer revalidation from the etag column alone, without reading the blob
+        Optional<String> etag = profileImageService.findEtag(userId, size);
+        if (!etag.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+        if (webRequest.checkNotModified(etag.get())) {
+            return ResponseEntity.status(304).cacheControl(cacheControl).eTag(etag.get()).build();
+        }
+
+        ProfileImage image = profileImageService.find(userId, size).orElse(null);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(image.getEtag())
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(imageType(image.getContentType()))
+                .contentLength(image.getSizeBytes())
+                .body(image.getData());
+    }
+
+    // Only the two types ProfileImageService writes are served as images; older rows with
+    // any other stored type go out as plain bytes
+    private static MediaType imageType(String contentType) {
+        if (MediaType.IMAGE_PNG_VALUE.equals(contentType)) {
+            return MediaType.IMAGE_PNG;
+        }
+        if (MediaType.IMAGE_JPEG_VALUE.equals(contentType)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
@@ -0,0 +1,46 @@
+package com.infosys.dto;
+
+import java.math.BigDecimal;
+
+public class BudgetStatus {
+    private Long budgetId;
+    private String category;
+    private Integer month;
+    private Integer year;
+    private BigDecimal budgetAmount;
+    private BigDecimal spentAmount;
+    private BigDecimal remainingAmount;
+    private BigDecimal percentUsed;
+    private BigDecimal projectedSpend;
+    private String status;
+
+    public Long getBudgetId() { return budgetId; }
+    public void setBudgetId(Long budgetId) { this.budgetId = budgetId; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public BigDecimal getBudgetAmount() { return budgetAmount; }
+    public void setBudgetAmount(BigDecimal budgetAmount) { this.budgetAmount = budgetAmount; }
+
+    public BigDecimal getSpentAmount() { return spentAmount; }
+    public void setSpentAmount(BigDecimal spentAmount) { this.spentAmount = spentAmount; }
+
+    public BigDecimal getRemainingAmount() { return remainingAmount; }
+    public void setRemainingAmount(BigDecimal remainingAmount) { this.remainingAmount = remainingAmount; }
+
+    public BigDecimal getPercentUsed() { return percentUsed; }
+    public void setPercentUsed(BigDecimal percentUsed) { this.percentUsed = percentUsed; }
+
+    public BigDecimal getProjectedSpend() { return projectedSpend; }
+    public void setProjectedSpend(BigDecimal projectedSpend) { this.projectedSpend = projectedSpend; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
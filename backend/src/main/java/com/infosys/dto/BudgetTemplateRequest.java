@@ -0,0 +1,42 @@
+package com.infosys.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class BudgetTemplateRequest {
+    private List<CategoryAmount> categories;
+    private Integer startMonth;
+    private Integer startYear;
+    private Integer endMonth;
+    private Integer endYear;
+    private Boolean rollover;
+
+    public List<CategoryAmount> getCategories() { return categories; }
+    public void setCategories(List<CategoryAmount> categories) { this.categories = categories; }
+
+    public Integer getStartMonth() { return startMonth; }
+    public void setStartMonth(Integer startMonth) { this.startMonth = startMonth; }
+
+    public Integer getStartYear() { return startYear; }
+    public void setStartYear(Integer startYear) { this.startYear = startYear; }
+
+    public Integer getEndMonth() { return endMonth; }
+    public void setEndMonth(Integer endMonth) { this.endMonth = endMonth; }
+
+    public Integer getEndYear() { return endYear; }
+    public void setEndYear(Integer endYear) { this.endYear = endYear; }
+
+    public Boolean getRollover() { return rollover; }
+    public void setRollover(Boolean rollover) { this.rollover = rollover; }
+
+    public static class CategoryAmount {
+        private String category;
+        private BigDecimal amount;
+
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+    }
+}
@@ -0,0 +1,17 @@
+package com.infosys.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public interface BudgetView {
+    Set<String> FIELDS = Set.of("id", "category", "budgetAmount", "spentAmount", "month", "year", "updatedAt");
+
+    Long getId();
+    String getCategory();
+    BigDecimal getBudgetAmount();
+    BigDecimal getSpentAmount();
+    Integer getMonth();
+    Integer getYear();
+    LocalDateTime getUpdatedAt();
+}
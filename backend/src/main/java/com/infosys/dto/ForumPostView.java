@@ -0,0 +1,22 @@
+package com.infosys.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Forum post without its comments, so listing posts doesn't load every comment
+ * collection.
+ */
+public interface ForumPostView {
+    Set<String> FIELDS = Set.of("id", "title", "content", "category", "userId", "userName", "likesCount", "createdAt", "updatedAt");
+
+    Long getId();
+    String getTitle();
+    String getContent();
+    String getCategory();
+    Long getUserId();
+    String getUserName();
+    Integer getLikesCount();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
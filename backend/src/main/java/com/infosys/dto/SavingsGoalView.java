@@ -0,0 +1,18 @@
+package com.infosys.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public interface SavingsGoalView {
+    Set<String> FIELDS = Set.of("id", "goalName", "targetAmount", "currentAmount", "targetDate", "createdAt", "updatedAt");
+
+    Long getId();
+    String getGoalName();
+    BigDecimal getTargetAmount();
+    BigDecimal getCurrentAmount();
+    LocalDate getTargetDate();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,17 @@
+package com.infosys.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public interface SavingsView {
+    Set<String> FIELDS = Set.of("id", "goalName", "amount", "targetAmount", "description", "createdAt", "updatedAt");
+
+    Long getId();
+    String getGoalName();
+    BigDecimal getAmount();
+    BigDecimal getTargetAmount();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,65 @@
+package com.infosys.dto;
+
+import com.infosys.model.Budget;
+import com.infosys.model.Expense;
+import com.infosys.model.Income;
+import com.infosys.model.Savings;
+import com.infosys.model.SavingsGoal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SyncChanges {
+    // Pass back as ?since= on the next call
+    private String token;
+    // More changes are waiting; call again straight away with the new token
+    private boolean hasMore;
+    // The old token was too old to diff against: drop local data and keep this full load
+    private boolean reset;
+    private List<Income> incomes = new ArrayList<>();
+    private List<Expense> expenses = new ArrayList<>();
+    private List<Budget> budgets = new ArrayList<>();
+    private List<SavingsGoal> savingsGoals = new ArrayList<>();
+    private List<Savings> savings = new ArrayList<>();
+    private List<Deleted> deleted = new ArrayList<>();
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public boolean isReset() { return reset; }
+    public void setReset(boolean reset) { this.reset = reset; }
+
+    public List<Income> getIncomes() { return incomes; }
+    public void setIncomes(List<Income> incomes) { this.incomes = incomes; }
+
+    public List<Expense> getExpenses() { return expenses; }
+    public void setExpenses(List<Expense> expenses) { this.expenses = expenses; }
+
+    public List<Budget> getBudgets() { return budgets; }
+    public void setBudgets(List<Budget> budgets) { this.budgets = budgets; }
+
+    public List<SavingsGoal> getSavingsGoals() { return savingsGoals; }
+    public void setSavingsGoals(List<SavingsGoal> savingsGoals) { this.savingsGoals = savingsGoals; }
+
+    public List<Savings> getSavings() { return savings; }
+    public void setSavings(List<Savings> savings) { this.savings = savings; }
+
+    public List<Deleted> getDeleted() { return deleted; }
+    public void setDeleted(List<Deleted> deleted) { this.deleted = deleted; }
+
+    public static class Deleted {
+        private String type;
+        private Long id;
+
+        public Deleted(String type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        public String getType() { return type; }
+        public Long getId() { return id; }
+    }
+}
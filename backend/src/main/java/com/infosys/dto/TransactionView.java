@@ -0,0 +1,19 @@
+package com.infosys.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Income or expense as the transaction lists render it; also the columns a
+ * fields= selection on those lists may name.
+ */
+public interface TransactionView {
+    Set<String> FIELDS = Set.of("id", "amount", "description", "category", "transactionDate", "createdAt");
+
+    Long getId();
+    Double getAmount();
+    String getDescription();
+    String getCategory();
+    String getTransactionDate();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,22 @@
+package com.infosys.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * User as returned by the profile endpoints. Leaves out the password hash; the
+ * profile image is only the reference URL served by ProfileImageService.
+ */
+public interface UserProfileView {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    String getFullName();
+    String getMobile();
+    String getMonthlyIncome();
+    String getPreferredCurrency();
+    String getFinancialGoal();
+    Integer getFinancialScore();
+    String getProfileImage();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
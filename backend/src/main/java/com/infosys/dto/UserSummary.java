@@ -0,0 +1,13 @@
+package com.infosys.dto;
+
+/**
+ * Slim read-only view of a user for authentication and ownership checks.
+ * Spring Data selects only these columns instead of hydrating the full entity.
+ */
+public interface UserSummary {
+    Long getId();
+    String getEmail();
+    String getUsername();
+    String getFullName();
+    String getPreferredCurrency();
+}
@@ -0,0 +1,115 @@
+package com.infosys.migration;
+
+import com.infosys.service.ProfileImageService;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies base64 profile images still held in users.profile_image into profile_images
+ * before V2 shrinks the column. Flyway runs before the application context is ready, so
+ * this can't wait for ProfileImageService's startup pass and works on plain JDBC with the
+ * service's static rendering helpers. Picked up by Spring Boot as a JavaMigration bean.
+ */
+@Component
+public class V1_1__MoveInlineProfileImages extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V1_1__MoveInlineProfileImages.class);
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        List<Long> userIds = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE profile_image LIKE 'data:%'");
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                userIds.add(rows.getLong(1));
+            }
+        }
+        // One image at a time so only a single data URI is held in memory
+        for (Long userId : userIds) {
+            try (PreparedStatement select = connection.prepareStatement("SELECT username, profile_image FROM users WHERE id = ?")) {
+                select.setLong(1, userId);
+                try (ResultSet row = select.executeQuery()) {
+                    if (row.next()) {
+                        move(connection, userId, row.getString(1), row.getString(2));
+                    }
+                }
+            }
+        }
+    }
+
+    private void move(Connection connection, Long userId, String username, String dataUri) throws SQLException {
+        Map<String, ProfileImageService.Variant> variants;
+        try {
+            variants = ProfileImageService.renderDataUri(dataUri);
+        } catch (RuntimeException e) {
+            // A format ImageIO can't resize: keep the upload itself for every size rather than lose it
+            variants = asIs(dataUri);
+        }
+        if (variants == null) {
+            // Not even valid base64, so nothing to keep; V2 drops it with the column shrink
+            log.warn("Dropping the unreadable inline profile image of user {}", userId);
+            return;
+        }
+
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM profile_images WHERE user_id = ?")) {
+            delete.setLong(1, userId);
+            delete.executeUpdate();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO profile_images "
+                + "(user_id, variant, content_type, etag, size_bytes, data, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (Map.Entry<String, ProfileImageService.Variant> variant : variants.entrySet()) {
+                insert.setLong(1, userId);
+                insert.setString(2, variant.getKey());
+                insert.setString(3, variant.getValue().getContentType());
+                insert.setString(4, variant.getValue().getEtag());
+                insert.setInt(5, variant.getValue().getData().length);
+                insert.setBytes(6, variant.getValue().getData());
+                insert.setTimestamp(7, now);
+                insert.executeUpdate();
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement("UPDATE users SET profile_image = ?, updated_at = ? WHERE id = ?")) {
+            update.setString(1, ProfileImageService.reference(username, variants.get(ProfileImageService.ORIGINAL).getEtag()));
+            update.setTimestamp(2, now);
+            update.setLong(3, userId);
+            update.executeUpdate();
+        }
+    }
+
+    private Map<String, ProfileImageService.Variant> asIs(String dataUri) {
+        int comma = dataUri.indexOf(',');
+        if (comma < 5) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(dataUri.substring(comma + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // The data URI's type is whatever the client claimed, so it isn't trusted
+        ProfileImageService.Variant original = new ProfileImageService.Variant("application/octet-stream", bytes);
+        Map<String, ProfileImageService.Variant> variants = new LinkedHashMap<>();
+        variants.put(ProfileImageService.ORIGINAL, original);
+        variants.put(ProfileImageService.AVATAR, original);
+        variants.put(ProfileImageService.THUMBNAIL, original);
+        return variants;
+    }
+}
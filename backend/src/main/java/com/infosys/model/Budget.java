@@ -1,11 +1,23 @@
 package com.infosys.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// Only changed columns are written, so editing a budget's amount doesn't put back a stale spent_amount
 @Entity
-@Table(name = "budgets")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "budgets", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budgets_user_category_period", columnNames = {"user_id", "category", "month", "year"})
+}, indexes = {
+    @Index(name = "idx_budgets_user_period", columnList = "user_id, year, month"),
+    @Index(name = "idx_budgets_user_version", columnList = "user_id, change_version")
+})
 public class Budget {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +47,10 @@ public class Budget {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Per-user sync version of the last change, see SyncVersionService
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     // Constructors
     public Budget() {}
 
@@ -65,4 +81,7 @@ public class Budget {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.infosys.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "budget_alerts", indexes = {
+    @Index(name = "idx_budget_alerts_user_created", columnList = "user_id, created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budget_alerts_event_threshold", columnNames = {"event_id", "threshold"})
+})
+public class BudgetAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    // Outbox event that raised the alert; redelivering that event won't add it twice
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    // Percentage of the budget that was crossed: 80 or 100
+    @Column(nullable = false)
+    private Integer threshold;
+
+    @Column(name = "spent_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal spentAmount;
+
+    @Column(name = "budget_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal budgetAmount;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean read = false;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public BudgetAlert() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public BudgetAlert(Budget budget, Integer threshold) {
+        this();
+        this.userId = budget.getUserId();
+        this.budgetId = budget.getId();
+        this.category = budget.getCategory();
+        this.month = budget.getMonth();
+        this.year = budget.getYear();
+        this.threshold = threshold;
+        this.spentAmount = budget.getSpentAmount();
+        this.budgetAmount = budget.getBudgetAmount();
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getBudgetId() { return budgetId; }
+    public void setBudgetId(Long budgetId) { this.budgetId = budgetId; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public Integer getThreshold() { return threshold; }
+    public void setThreshold(Integer threshold) { this.threshold = threshold; }
+
+    public BigDecimal getSpentAmount() { return spentAmount; }
+    public void setSpentAmount(BigDecimal spentAmount) { this.spentAmount = spentAmount; }
+
+    public BigDecimal getBudgetAmount() { return budgetAmount; }
+    public void setBudgetAmount(BigDecimal budgetAmount) { this.budgetAmount = budgetAmount; }
+
+    public Boolean getRead() { return read; }
+    public void setRead(Boolean read) { this.read = read; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "forum_comments")
+@Table(name = "forum_comments", indexes = {
+    @Index(name = "idx_forum_comments_post", columnList = "post_id, created_at"),
+    @Index(name = "idx_forum_comments_user_created", columnList = "user_id, created_at")
+})
 public class ForumComment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
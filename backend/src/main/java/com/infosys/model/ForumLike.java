@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "forum_likes")
+@Table(name = "forum_likes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_forum_likes_post_user", columnNames = {"post_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_forum_likes_user", columnList = "user_id")
+})
 public class ForumLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -5,7 +5,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "forum_posts")
+@Table(name = "forum_posts", indexes = {
+    @Index(name = "idx_forum_posts_created", columnList = "created_at"),
+    @Index(name = "idx_forum_posts_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_forum_posts_category_created", columnList = "category, created_at")
+})
 public class ForumPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "incomes")
+@Table(name = "incomes", indexes = {
+    @Index(name = "idx_incomes_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_incomes_user_version", columnList = "user_id, change_version")
+})
 public class Income {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +31,10 @@ public class Income {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Per-user sync version of the last change, see SyncVersionService
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     public Income() {
         this.createdAt = LocalDateTime.now();
     }
@@ -52,4 +59,7 @@ public class Income {
     
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
 }
\ No newline at end of file
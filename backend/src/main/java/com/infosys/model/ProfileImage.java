@@ -0,0 +1,66 @@
+package com.infosys.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "profile_images", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_profile_images_user_variant", columnNames = {"user_id", "variant"})
+})
+public class ProfileImage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    // original, avatar or thumbnail
+    @Column(name = "variant", nullable = false, length = 16)
+    private String variant;
+    
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+    
+    @Column(name = "etag", nullable = false, length = 64)
+    private String etag;
+    
+    @Column(name = "size_bytes", nullable = false)
+    private Integer sizeBytes;
+    
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public ProfileImage() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    
+    public String getVariant() { return variant; }
+    public void setVariant(String variant) { this.variant = variant; }
+    
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    
+    public String getEtag() { return etag; }
+    public void setEtag(String etag) { this.etag = etag; }
+    
+    public Integer getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(Integer sizeBytes) { this.sizeBytes = sizeBytes; }
+    
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
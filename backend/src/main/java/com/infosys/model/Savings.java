@@ -5,7 +5,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "savings")
+@Table(name = "savings", indexes = {
+    @Index(name = "idx_savings_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_savings_user_version", columnList = "user_id, change_version")
+})
 public class Savings {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +35,10 @@ public class Savings {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Per-user sync version of the last change, see SyncVersionService
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     // Constructors
     public Savings() {}
 
@@ -69,4 +76,7 @@ public class Savings {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
 }
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.infosys.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "savings_goals")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "savings_goals", indexes = {
+    @Index(name = "idx_savings_goals_user", columnList = "user_id"),
+    @Index(name = "idx_savings_goals_user_version", columnList = "user_id, change_version")
+})
 public class SavingsGoal {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +40,10 @@ public class SavingsGoal {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Per-user sync version of the last change, see SyncVersionService
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     // Constructors
     public SavingsGoal() {}
 
@@ -60,4 +71,7 @@ public class SavingsGoal {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.infosys.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Record of a deleted synced row, so /sync/changes can tell clients to drop it
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_user_version", columnList = "user_id, change_version"),
+    @Index(name = "idx_sync_tombstones_deleted", columnList = "deleted_at")
+})
+public class SyncTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // income, expense, budget, savings_goal or savings
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public SyncTombstone() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public SyncTombstone(Long userId, String entityType, Long entityId, Long changeVersion) {
+        this();
+        this.userId = userId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeVersion = changeVersion;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public Long getChangeVersion() { return changeVersion; }
+    public void setChangeVersion(Long changeVersion) { this.changeVersion = changeVersion; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
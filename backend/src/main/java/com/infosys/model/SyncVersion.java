@@ -0,0 +1,37 @@
+package com.infosys.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Per-user change counter behind /sync/changes, advanced by SyncVersionService
+@Entity
+@Table(name = "sync_versions")
+public class SyncVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    // Tombstones up to this version have been pruned; older sync tokens need a full resync
+    @Column(name = "pruned_through", nullable = false)
+    private Long prunedThrough = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public SyncVersion() {}
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Long getPrunedThrough() { return prunedThrough; }
+    public void setPrunedThrough(Long prunedThrough) { this.prunedThrough = prunedThrough; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
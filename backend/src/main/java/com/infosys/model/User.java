@@ -1,10 +1,17 @@
 package com.infosys.model;
 
 import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,6 +20,8 @@ public class User {
     @Column(unique = true, nullable = false)
     private String username;
     
+    // Accepted on input, never written back out
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(nullable = false)
     private String password;
     
@@ -30,13 +39,16 @@ public class User {
     @Column(name = "preferred_currency")
     private String preferredCurrency;
     
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "financial_goal")
     private String financialGoal;
     
     @Column(name = "financial_score")
     private Integer financialScore;
     
-    @Column(name = "profile_image", columnDefinition = "LONGTEXT")
+    // URL of the image served by UserProfileController; bytes are kept in profile_images
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "profile_image", length = 512)
     private String profileImage;
     
     @Column(name = "created_at")
@@ -0,0 +1,26 @@
+package com.infosys.repository;
+
+import com.infosys.model.BudgetAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+@Repository
+public interface BudgetAlertRepository extends JpaRepository<BudgetAlert, Long> {
+    List<BudgetAlert> findTop50ByUserIdOrderByCreatedAtDesc(Long userId);
+    List<BudgetAlert> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
+    boolean existsByEventIdAndThreshold(Long eventId, Integer threshold);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE BudgetAlert a SET a.read = true WHERE a.userId = ?1 AND a.read = false")
+    int markAllRead(Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM budget_alerts WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
@@ -1,7 +1,15 @@
 package com.infosys.repository;
 
 import com.infosys.model.Budget;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -9,10 +17,37 @@ import java.util.Optional;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
+    // Rows changed after the client's sync token, oldest change first
+    @Query("SELECT b FROM Budget b WHERE b.userId = ?1 AND b.changeVersion > ?2 AND b.changeVersion <= ?3 ORDER BY b.changeVersion, b.id")
+    List<Budget> findChanges(Long userId, long since, long upTo, Pageable pageable);
+    List<Budget> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
+    // Cached in the query cache; any Hibernate write to budgets invalidates it (see ehcache.xml)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "budget-queries")})
     List<Budget> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "budget-queries")})
+    <T> List<T> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year, Class<T> type);
     Optional<Budget> findByUserIdAndCategoryAndMonthAndYear(Long userId, String category, Integer month, Integer year);
+    
+    // Row lock for spending updates: a locking read sees the latest committed spent amount rather than
+    // the transaction's snapshot, so concurrent expenses can't both add to the same old value
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Budget b WHERE b.userId = ?1 AND b.category = ?2 AND b.month = ?3 AND b.year = ?4")
+    Optional<Budget> findForUpdate(Long userId, String category, Integer month, Integer year);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "budget-queries")})
     List<Budget> findByUserId(Long userId);
     
+    // Periods are compared as year * 12 + month so a range can span years
+    @Query("SELECT b FROM Budget b WHERE b.userId = ?1 AND b.year * 12 + b.month BETWEEN ?2 AND ?3")
+    List<Budget> findByUserIdAndPeriodBetween(Long userId, int fromPeriod, int toPeriod);
+    
+    @Modifying
     @Transactional
+    @Query("DELETE FROM Budget b WHERE b.userId = ?1")
     void deleteByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM budgets WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
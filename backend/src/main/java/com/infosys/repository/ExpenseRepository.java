@@ -1,14 +1,30 @@
 package com.infosys.repository;
 
 import com.infosys.model.Expense;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+    // Rows changed after the client's sync token, oldest change first
+    @Query("SELECT e FROM Expense e WHERE e.userId = ?1 AND e.changeVersion > ?2 AND e.changeVersion <= ?3 ORDER BY e.changeVersion, e.id")
+    List<Expense> findChanges(Long userId, long since, long upTo, Pageable pageable);
+    List<Expense> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
     List<Expense> findByUserIdOrderByCreatedAtDesc(Long userId);
+    <T> List<T> findByUserIdOrderByCreatedAtDesc(Long userId, Class<T> type);
     List<Expense> findByUserId(Long userId);
     
+    @Modifying
     @Transactional
+    @Query("DELETE FROM Expense e WHERE e.userId = ?1")
     void deleteByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM expenses WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
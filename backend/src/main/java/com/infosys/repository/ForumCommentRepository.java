@@ -2,6 +2,8 @@ package com.infosys.repository;
 
 import com.infosys.model.ForumComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
@@ -10,6 +12,19 @@ public interface ForumCommentRepository extends JpaRepository<ForumComment, Long
     List<ForumComment> findByPostIdOrderByCreatedAtDesc(Long postId);
     List<ForumComment> findByUserIdOrderByCreatedAtDesc(Long userId);
     
+    @Modifying
     @Transactional
+    @Query("DELETE FROM ForumComment c WHERE c.postId = ?1")
     void deleteByPostId(Long postId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM forum_comments WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+    
+    // Comments other users left on the given user's posts
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM forum_comments WHERE post_id IN (SELECT id FROM forum_posts WHERE user_id = ?1) LIMIT ?2", nativeQuery = true)
+    int deleteChunkByPostOwner(Long userId, int limit);
 }
\ No newline at end of file
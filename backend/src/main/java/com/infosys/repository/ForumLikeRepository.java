@@ -0,0 +1,20 @@
+package com.infosys.repository;
+
+import com.infosys.model.ForumLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ForumLikeRepository extends JpaRepository<ForumLike, Long> {
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM forum_likes WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+    
+    // Likes other users left on the given user's posts
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM forum_likes WHERE post_id IN (SELECT id FROM forum_posts WHERE user_id = ?1) LIMIT ?2", nativeQuery = true)
+    int deleteChunkByPostOwner(Long userId, int limit);
+}
@@ -2,14 +2,22 @@ package com.infosys.repository;
 
 import com.infosys.model.ForumPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 public interface ForumPostRepository extends JpaRepository<ForumPost, Long> {
     List<ForumPost> findAllByOrderByCreatedAtDesc();
+    <T> List<T> findAllByOrderByCreatedAtDesc(Class<T> type);
     List<ForumPost> findByCategoryOrderByCreatedAtDesc(String category);
     List<ForumPost> findByUserIdOrderByCreatedAtDesc(Long userId);
     
     @Query("SELECT p FROM ForumPost p ORDER BY p.likesCount DESC, p.createdAt DESC")
     List<ForumPost> findAllOrderByLikesDesc();
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM forum_posts WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
@@ -1,14 +1,30 @@
 package com.infosys.repository;
 
 import com.infosys.model.Income;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 public interface IncomeRepository extends JpaRepository<Income, Long> {
+    // Rows changed after the client's sync token, oldest change first
+    @Query("SELECT i FROM Income i WHERE i.userId = ?1 AND i.changeVersion > ?2 AND i.changeVersion <= ?3 ORDER BY i.changeVersion, i.id")
+    List<Income> findChanges(Long userId, long since, long upTo, Pageable pageable);
+    List<Income> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
     List<Income> findByUserIdOrderByCreatedAtDesc(Long userId);
+    <T> List<T> findByUserIdOrderByCreatedAtDesc(Long userId, Class<T> type);
     List<Income> findByUserId(Long userId);
     
+    @Modifying
     @Transactional
+    @Query("DELETE FROM Income i WHERE i.userId = ?1")
     void deleteByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM incomes WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
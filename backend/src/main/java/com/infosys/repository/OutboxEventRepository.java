@@ -0,0 +1,56 @@
+package com.infosys.repository;
+
+import com.infosys.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // Users with an event waiting out a retry backoff are left out entirely, so their later
+    // events can't overtake it
+    @Query("SELECT e FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.userId NOT IN "
+            + "(SELECT b.userId FROM OutboxEvent b WHERE b.processedAt IS NULL AND b.nextAttemptAt > ?1) ORDER BY e.id")
+    List<OutboxEvent> findPending(LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.processedAt IS NULL")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.processedAt IS NULL")
+    long countPending();
+
+    @Query("SELECT MAX(e.id) FROM OutboxEvent e")
+    Optional<Long> findMaxId();
+
+    // Live update tail: everything past the cursor plus ids that were skipped because their
+    // transaction committed after a later one
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > ?1 OR e.id IN ?2 ORDER BY e.id")
+    List<OutboxEvent> findAfter(long cursor, Collection<Long> pendingIds, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.processedAt = ?2 WHERE e.id IN ?1")
+    int markProcessed(Collection<Long> ids, LocalDateTime processedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = ?2, e.lastError = ?3 WHERE e.id = ?1")
+    int markFailed(Long id, LocalDateTime nextAttemptAt, String lastError);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM outbox_events WHERE processed_at < ?1 LIMIT ?2", nativeQuery = true)
+    int deleteProcessedBefore(LocalDateTime cutoff, int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM outbox_events WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
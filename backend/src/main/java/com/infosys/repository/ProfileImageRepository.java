@@ -0,0 +1,25 @@
+package com.infosys.repository;
+
+import com.infosys.model.ProfileImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+public interface ProfileImageRepository extends JpaRepository<ProfileImage, Long> {
+    Optional<ProfileImage> findByUserIdAndVariant(Long userId, String variant);
+    
+    @Query("SELECT p.etag FROM ProfileImage p WHERE p.userId = ?1 AND p.variant = ?2")
+    Optional<String> findEtagByUserIdAndVariant(Long userId, String variant);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProfileImage p WHERE p.userId = ?1")
+    void deleteByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM profile_images WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
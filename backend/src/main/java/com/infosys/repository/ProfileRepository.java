@@ -1,9 +1,21 @@
 package com.infosys.repository;
 
 import com.infosys.model.Profile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "profile-queries")})
     Optional<Profile> findByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Profile p WHERE p.userId = ?1")
+    int deleteByUserId(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.infosys.repository;
+
+import com.infosys.model.RecurringTransaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+    List<RecurringTransaction> findByUserIdOrderByNextRunDateAsc(Long userId);
+    List<RecurringTransaction> findByClaimedBy(String claimedBy);
+
+    // Claims up to ?5 due templates for node ?1; rows another node holds an unexpired claim on are skipped
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "recurring_transactions"))
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE recurring_transactions SET claimed_by = ?1, claimed_until = ?2 " +
+            "WHERE active = true AND next_run_date <= ?3 AND (claimed_until IS NULL OR claimed_until < ?4) " +
+            "ORDER BY next_run_date, id LIMIT ?5", nativeQuery = true)
+    int claimDue(String nodeId, LocalDateTime claimedUntil, LocalDate today, LocalDateTime now, int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM recurring_transactions WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
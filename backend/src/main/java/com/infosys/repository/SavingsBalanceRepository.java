@@ -0,0 +1,33 @@
+package com.infosys.repository;
+
+import com.infosys.model.SavingsBalance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SavingsBalanceRepository extends JpaRepository<SavingsBalance, Long> {
+    @Query("SELECT b.balance FROM SavingsBalance b WHERE b.userId = ?1")
+    Optional<BigDecimal> findBalanceByUserId(Long userId);
+
+    // Single-statement increment, so concurrent writers serialise on the row instead of losing updates
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "savings_balances"))
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO savings_balances (user_id, balance, updated_at) VALUES (?1, ?2, ?3) " +
+            "ON DUPLICATE KEY UPDATE balance = balance + VALUES(balance), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int addToBalance(Long userId, BigDecimal delta, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM savings_balances WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
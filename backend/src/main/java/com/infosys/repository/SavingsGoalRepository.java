@@ -1,15 +1,51 @@
 package com.infosys.repository;
 
 import com.infosys.model.SavingsGoal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SavingsGoalRepository extends JpaRepository<SavingsGoal, Long> {
+    // Rows changed after the client's sync token, oldest change first
+    @Query("SELECT g FROM SavingsGoal g WHERE g.userId = ?1 AND g.changeVersion > ?2 AND g.changeVersion <= ?3 ORDER BY g.changeVersion, g.id")
+    List<SavingsGoal> findChanges(Long userId, long since, long upTo, Pageable pageable);
+    List<SavingsGoal> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "savings-goal-queries")})
     List<SavingsGoal> findByUserId(Long userId);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "savings-goal-queries")})
+    <T> List<T> findByUserId(Long userId, Class<T> type);
+    
+    // Atomic increment; returns 0 when the goal doesn't exist or belongs to someone else
+    @Modifying
+    @Transactional
+    @Query("UPDATE SavingsGoal g SET g.currentAmount = g.currentAmount + ?3, g.updatedAt = ?4, g.changeVersion = ?5 WHERE g.id = ?1 AND g.userId = ?2")
+    int addToCurrentAmount(Long goalId, Long userId, BigDecimal amount, LocalDateTime now, Long changeVersion);
     
+    // Leaves currentAmount alone so an edit can't overwrite a concurrent transfer
+    @Modifying
     @Transactional
+    @Query("UPDATE SavingsGoal g SET g.goalName = ?3, g.targetAmount = ?4, g.targetDate = ?5, g.updatedAt = ?6, g.changeVersion = ?7 WHERE g.id = ?1 AND g.userId = ?2")
+    int updateDetails(Long goalId, Long userId, String goalName, BigDecimal targetAmount, LocalDate targetDate, LocalDateTime now, Long changeVersion);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SavingsGoal g WHERE g.userId = ?1")
     void deleteByUserId(Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM savings_goals WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
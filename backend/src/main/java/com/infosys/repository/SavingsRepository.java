@@ -1,16 +1,34 @@
 package com.infosys.repository;
 
 import com.infosys.model.Savings;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-import java.math.BigDecimal;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SavingsRepository extends JpaRepository<Savings, Long> {
+    // Rows changed after the client's sync token, oldest change first
+    @Query("SELECT s FROM Savings s WHERE s.userId = ?1 AND s.changeVersion > ?2 AND s.changeVersion <= ?3 ORDER BY s.changeVersion, s.id")
+    List<Savings> findChanges(Long userId, long since, long upTo, Pageable pageable);
+    List<Savings> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
     List<Savings> findByUserIdOrderByCreatedAtDesc(Long userId);
+    <T> List<T> findByUserIdOrderByCreatedAtDesc(Long userId, Class<T> type);
+    
+    // Row lock so the old amount read for the balance delta can't change underneath
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Savings s WHERE s.id = ?1")
+    Optional<Savings> findByIdForUpdate(Long id);
     
-    @Query("SELECT SUM(s.amount) FROM Savings s WHERE s.userId = ?1")
-    BigDecimal getTotalSavingsByUserId(Long userId);
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM savings WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
 }
\ No newline at end of file
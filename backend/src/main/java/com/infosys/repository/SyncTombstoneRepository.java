@@ -0,0 +1,33 @@
+package com.infosys.repository;
+
+import com.infosys.model.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+    @Query("SELECT t FROM SyncTombstone t WHERE t.userId = ?1 AND t.changeVersion > ?2 AND t.changeVersion <= ?3 ORDER BY t.changeVersion, t.id")
+    List<SyncTombstone> findChanges(Long userId, long since, long upTo, Pageable pageable);
+
+    List<SyncTombstone> findByUserIdAndChangeVersion(Long userId, Long changeVersion);
+
+    // [userId, highest version] of the tombstones about to be pruned
+    @Query("SELECT t.userId, MAX(t.changeVersion) FROM SyncTombstone t WHERE t.deletedAt < ?1 GROUP BY t.userId")
+    List<Object[]> findPrunableVersions(LocalDateTime cutoff);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM sync_tombstones WHERE deleted_at < ?1 LIMIT ?2", nativeQuery = true)
+    int deleteDeletedBefore(LocalDateTime cutoff, int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM sync_tombstones WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
@@ -0,0 +1,50 @@
+package com.infosys.repository;
+
+import com.infosys.model.SyncVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SyncVersionRepository extends JpaRepository<SyncVersion, Long> {
+    @Query("SELECT v.version FROM SyncVersion v WHERE v.userId = ?1")
+    Optional<Long> findVersionByUserId(Long userId);
+
+    @Query("SELECT v.prunedThrough FROM SyncVersion v WHERE v.userId = ?1")
+    Optional<Long> findPrunedThroughByUserId(Long userId);
+
+    // Takes the row lock that orders concurrent writers of the same user until commit.
+    // Runs on every write, so it names its table: a native update without query spaces
+    // would make Hibernate drop every second-level cache region.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sync_versions"))
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO sync_versions (user_id, version, pruned_through, updated_at) VALUES (?1, 1, 0, ?2) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = VALUES(updated_at)", nativeQuery = true)
+    int increment(Long userId, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SyncVersion v SET v.prunedThrough = ?2 WHERE v.userId = ?1 AND v.prunedThrough < ?2")
+    int raisePrunedThrough(Long userId, Long version);
+
+    // Moves the counter past every token handed out so far and marks all of them pruned, so
+    // each of those clients gets reset=true. pruned_through is assigned first: MySQL applies
+    // SET clauses left to right, standard SQL uses the old values, and both give version + 1
+    @Modifying
+    @Transactional
+    @Query("UPDATE SyncVersion v SET v.prunedThrough = v.version + 1, v.version = v.version + 1, v.updatedAt = ?2 WHERE v.userId = ?1")
+    int resetHistory(Long userId, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM sync_versions WHERE user_id = ?1 LIMIT ?2", nativeQuery = true)
+    int deleteChunkByUserId(Long userId, int limit);
+}
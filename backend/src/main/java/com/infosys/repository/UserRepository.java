@@ -1,10 +1,41 @@
 package com.infosys.repository;
 
+import com.infosys.dto.UserProfileView;
+import com.infosys.dto.UserSummary;
 import com.infosys.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
+    
+    Optional<UserSummary> findSummaryByEmail(String email);
+    Optional<UserSummary> findSummaryByUsername(String username);
+    Optional<UserProfileView> findProfileByEmail(String email);
+    Optional<UserProfileView> findProfileByUsername(String username);
+    
+    @Query("SELECT u.id FROM User u WHERE u.profileImage LIKE 'data:%'")
+    List<Long> findIdsWithInlineProfileImage();
+    
+    // LIKE keeps the range scan on uk_users_username; REGEXP then drops names that only share the
+    // prefix. The pattern is escaped with '!' rather than a backslash, which MySQL would also read
+    // as a string escape
+    @Query(value = "SELECT username FROM users WHERE username LIKE ?1 ESCAPE '!' AND username REGEXP ?2", nativeQuery = true)
+    List<String> findUsernamesLike(String pattern, String regex);
+    
+    // Only replaces the hash it was computed from, so a concurrent password change wins
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = ?3 WHERE u.id = ?1 AND u.password = ?2")
+    int updatePasswordHash(Long id, String currentHash, String newHash);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM User u WHERE u.id = ?1")
+    int deleteAccountById(Long id);
 }
\ No newline at end of file
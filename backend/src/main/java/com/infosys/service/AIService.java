@@ -1,5 +1,11 @@
 package com.infosys.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.HttpEntity;
@@ -7,32 +13,93 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Calls the local Ollama server. Concurrent generations are capped by
+ * app.ai.max-concurrent: Ollama handles a handful of prompts at a time, and with
+ * virtual threads nothing else would stop every request from piling onto it.
+ */
 @Service
 public class AIService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final String OLLAMA_URL = "http://localhost:11434/api/generate";
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.ai.ollama-url:http://localhost:11434/api/generate}")
+    private String ollamaUrl;
+
+    @Value("${app.ai.model:llama3.2}")
+    private String model;
+
+    @Value("${app.ai.max-concurrent:4}")
+    private int maxConcurrent;
+
+    // How long a request may queue for a free slot before it is turned away
+    @Value("${app.ai.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${app.ai.read-timeout-ms:120000}")
+    private int readTimeoutMs;
+
+    private RestTemplate restTemplate;
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2000);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        restTemplate = new RestTemplate(requestFactory);
+        permits = new Semaphore(maxConcurrent, true);
+        Gauge.builder("budgetly.ai.permits.available", permits, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("budgetly.ai.permits.waiting", permits, Semaphore::getQueueLength).register(meterRegistry);
+    }
 
     public String getAIResponse(String message) {
+        try {
+            return generate("You are a financial advisor. Give a short, simple answer about: " + message + ". Use 3-5 bullet points maximum. Keep it under 100 words. Be direct and practical.");
+        } catch (Exception e) {
+            return "I'm currently unable to process your request. Please make sure Ollama is running with the llama3.2 model.";
+        }
+    }
+
+    public String generate(String prompt) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusyException();
+        }
+        if (!acquired) {
+            throw new BusyException();
+        }
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             Map<String, Object> requestBody = Map.of(
-                "model", "llama3.2",
-                "prompt", "You are a financial advisor. Give a short, simple answer about: " + message + ". Use 3-5 bullet points maximum. Keep it under 100 words. Be direct and practical.",
+                "model", model,
+                "prompt", prompt,
                 "stream", false
             );
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
+
             @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(OLLAMA_URL, entity, Map.class);
-            
+            Map<String, Object> response = restTemplate.postForObject(ollamaUrl, entity, Map.class);
+
             return (String) response.get("response");
-        } catch (Exception e) {
-            return "I'm currently unable to process your request. Please make sure Ollama is running with the llama3.2 model.";
+        } finally {
+            permits.release();
+        }
+    }
+
+    public static class BusyException extends RuntimeException {
+        public BusyException() {
+            super("AI assistant is busy");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+package com.infosys.service;
+
+import com.infosys.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Deletes user-owned rows with set-based DELETE statements. Each table is purged in
+ * chunks of {@code app.purge.chunk-size} rows, one short transaction per chunk, so a
+ * very large account never holds row locks for long. The user row goes last, which
+ * makes an interrupted purge safe to run again.
+ */
+@Service
+public class AccountPurgeService {
+    private static final Logger log = LoggerFactory.getLogger(AccountPurgeService.class);
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Autowired
+    private SyncVersionRepository syncVersionRepository;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Autowired
+    private SavingsRepository savingsRepository;
+
+    @Autowired
+    private SavingsBalanceRepository savingsBalanceRepository;
+
+    @Autowired
+    private ForumPostRepository forumPostRepository;
+
+    @Autowired
+    private ForumCommentRepository forumCommentRepository;
+
+    @Autowired
+    private ForumLikeRepository forumLikeRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Value("${app.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    private final Map<String, PurgeJob> jobs = new ConcurrentHashMap<>();
+
+    // Removes transactions, budgets and savings but keeps the account, profile and forum activity
+    public PurgeJob resetFinancialData(Long userId) {
+        PurgeJob job = new PurgeJob(userId, null, false);
+        runFinancialPurge(job);
+        job.finish();
+        return job;
+    }
+
+    public PurgeJob deleteAccount(Long userId) {
+        PurgeJob job = new PurgeJob(userId, null, true);
+        runAccountPurge(job);
+        job.finish();
+        return job;
+    }
+
+    public PurgeJob submit(Long userId, String email, boolean deleteAccount) {
+        evictFinishedJobs();
+        PurgeJob job = new PurgeJob(userId, email, deleteAccount);
+        jobs.put(job.getJobId(), job);
+        taskExecutor.execute(() -> {
+            try {
+                if (deleteAccount) {
+                    runAccountPurge(job);
+                } else {
+                    runFinancialPurge(job);
+                }
+                job.finish();
+            } catch (Exception e) {
+                log.error("Purge job {} for user {} failed", job.getJobId(), userId, e);
+                job.fail(e.getMessage());
+            }
+        });
+        return job;
+    }
+
+    // Jobs are looked up by email because the user row is gone once an account purge completes
+    public PurgeJob getJob(String jobId, String email) {
+        PurgeJob job = jobs.get(jobId);
+        return job != null && email.equals(job.email) ? job : null;
+    }
+
+    private void runFinancialPurge(PurgeJob job) {
+        Long userId = job.getUserId();
+        // Templates first, so the scheduler can't add transactions behind the purge
+        purgeTable(job, "outbox_events", userId, outboxEventRepository::deleteChunkByUserId);
+        purgeTable(job, "recurring_transactions", userId, recurringTransactionRepository::deleteChunkByUserId);
+        purgeTable(job, "incomes", userId, incomeRepository::deleteChunkByUserId);
+        purgeTable(job, "expenses", userId, expenseRepository::deleteChunkByUserId);
+        purgeTable(job, "budget_alerts", userId, budgetAlertRepository::deleteChunkByUserId);
+        purgeTable(job, "budgets", userId, budgetRepository::deleteChunkByUserId);
+        purgeTable(job, "savings_goals", userId, savingsGoalRepository::deleteChunkByUserId);
+        purgeTable(job, "savings", userId, savingsRepository::deleteChunkByUserId);
+        purgeTable(job, "savings_balances", userId, savingsBalanceRepository::deleteChunkByUserId);
+        purgeTable(job, "sync_tombstones", userId, syncTombstoneRepository::deleteChunkByUserId);
+        // Last, so a client syncing mid-purge can't take a token that skips later deletes.
+        // The counter row stays: dropping it would restart versions at 1 and leave old tokens
+        // looking current instead of getting reset=true
+        syncVersionRepository.resetHistory(userId, LocalDateTime.now());
+    }
+
+    private void runAccountPurge(PurgeJob job) {
+        Long userId = job.getUserId();
+        runFinancialPurge(job);
+
+        // Children of the user's posts first, then the user's own forum rows
+        purgeTable(job, "forum_likes", userId, forumLikeRepository::deleteChunkByPostOwner);
+        purgeTable(job, "forum_likes", userId, forumLikeRepository::deleteChunkByUserId);
+        purgeTable(job, "forum_comments", userId, forumCommentRepository::deleteChunkByPostOwner);
+        purgeTable(job, "forum_comments", userId, forumCommentRepository::deleteChunkByUserId);
+        purgeTable(job, "forum_posts", userId, forumPostRepository::deleteChunkByUserId);
+
+        purgeTable(job, "sync_versions", userId, syncVersionRepository::deleteChunkByUserId);
+        purgeTable(job, "profile_images", userId, profileImageRepository::deleteChunkByUserId);
+        job.addDeleted("profiles", profileRepository.deleteByUserId(userId));
+        job.addDeleted("users", userRepository.deleteAccountById(userId));
+    }
+
+    private void purgeTable(PurgeJob job, String table, Long userId, BiFunction<Long, Integer, Integer> deleteChunk) {
+        job.setCurrentTable(table);
+        int deleted;
+        do {
+            deleted = deleteChunk.apply(userId, chunkSize);
+            job.addDeleted(table, deleted);
+        } while (deleted >= chunkSize);
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofHours(1));
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    public static class PurgeJob {
+        private final String jobId = UUID.randomUUID().toString();
+        private final Long userId;
+        private final String email;
+        private final boolean deleteAccount;
+        private final Map<String, Long> deletedRows = new LinkedHashMap<>();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String status = "RUNNING";
+        private volatile String currentTable;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        PurgeJob(Long userId, String email, boolean deleteAccount) {
+            this.userId = userId;
+            this.email = email;
+            this.deleteAccount = deleteAccount;
+        }
+
+        synchronized void addDeleted(String table, int rows) {
+            deletedRows.merge(table, (long) rows, Long::sum);
+        }
+
+        void setCurrentTable(String currentTable) { this.currentTable = currentTable; }
+
+        void finish() {
+            this.currentTable = null;
+            this.finishedAt = LocalDateTime.now();
+            this.status = "COMPLETED";
+        }
+
+        void fail(String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = "FAILED";
+        }
+
+        public String getJobId() { return jobId; }
+        public Long getUserId() { return userId; }
+        public boolean isDeleteAccount() { return deleteAccount; }
+        public String getStatus() { return status; }
+        public String getCurrentTable() { return currentTable; }
+        public String getError() { return error; }
+        public LocalDateTime getStartedAt() { return startedAt; }
+        public LocalDateTime getFinishedAt() { return finishedAt; }
+
+        public synchronized Map<String, Long> getDeletedRows() { return new LinkedHashMap<>(deletedRows); }
+
+        public synchronized long getTotalDeleted() {
+            return deletedRows.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.infosys.service;
 
-import com.infosys.model.User;
+import com.infosys.dto.UserSummary;
 import com.infosys.model.Income;
 import com.infosys.model.Expense;
 import com.infosys.model.SavingsGoal;
@@ -8,6 +8,8 @@ import com.infosys.repository.UserRepository;
 import com.infosys.repository.IncomeRepository;
 import com.infosys.repository.ExpenseRepository;
 import com.infosys.repository.SavingsGoalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +21,8 @@ import java.util.stream.Collectors;
 @Service
 public class AnalyticsService {
 
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
+
     @Autowired
     private UserRepository userRepository;
     
@@ -32,11 +36,9 @@ public class AnalyticsService {
     private SavingsGoalRepository savingsGoalRepository;
 
     public Map<String, Object> getMonthlySpendingData(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow();
+        UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
         List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         
-        System.out.println("Found " + expenses.size() + " expenses for user: " + email);
-        
         Map<String, Double> monthlySpending = new LinkedHashMap<>();
         LocalDate sixMonthsAgo = LocalDate.now().minusMonths(6);
         
@@ -48,16 +50,13 @@ public class AnalyticsService {
         }
         
         // Aggregate expenses by month
-        int processedCount = 0;
         for (Expense expense : expenses) {
             LocalDate expenseDate = parseDate(expense.getTransactionDate());
             String monthKey = expenseDate.format(DateTimeFormatter.ofPattern("MMM yyyy"));
             monthlySpending.merge(monthKey, expense.getAmount(), Double::sum);
-            processedCount++;
         }
         
-        System.out.println("Processed " + processedCount + " expenses");
-        System.out.println("Monthly spending data: " + monthlySpending);
+        log.debug("Monthly spending for user {} from {} expenses: {}", user.getId(), expenses.size(), monthlySpending);
         
         Map<String, Object> result = new HashMap<>();
         result.put("labels", new ArrayList<>(monthlySpending.keySet()));
@@ -66,11 +65,9 @@ public class AnalyticsService {
     }
 
     public Map<String, Object> getCategoryBreakdownData(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow();
+        UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
         List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         
-        System.out.println("Category breakdown - Found " + expenses.size() + " expenses for user: " + email);
-        
         Map<String, Double> categorySpending = new HashMap<>();
         
         for (Expense expense : expenses) {
@@ -84,12 +81,15 @@ public class AnalyticsService {
     }
 
     public Map<String, Object> getIncomeVsExpensesData(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow();
+        UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
         List<Income> incomes = incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         List<SavingsGoal> savingsGoals = savingsGoalRepository.findByUserId(user.getId());
         
-        System.out.println("Income vs Expenses - Found " + incomes.size() + " incomes and " + expenses.size() + " expenses and " + savingsGoals.size() + " savings goals");
+        if (log.isDebugEnabled()) {
+            log.debug("Income vs expenses for user {}: {} incomes, {} expenses, {} savings goals",
+                    user.getId(), incomes.size(), expenses.size(), savingsGoals.size());
+        }
         
         Map<String, Double> monthlyIncome = new LinkedHashMap<>();
         Map<String, Double> monthlyExpenses = new LinkedHashMap<>();
@@ -139,12 +139,15 @@ public class AnalyticsService {
     }
 
     public Map<String, Object> getSummaryData(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow();
+        UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
         List<Income> incomes = incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
         List<SavingsGoal> savingsGoals = savingsGoalRepository.findByUserId(user.getId());
         
-        System.out.println("Found " + incomes.size() + " incomes and " + expenses.size() + " expenses and " + savingsGoals.size() + " savings goals for user: " + email);
+        if (log.isDebugEnabled()) {
+            log.debug("Summary for user {}: {} incomes, {} expenses, {} savings goals",
+                    user.getId(), incomes.size(), expenses.size(), savingsGoals.size());
+        }
         
         LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
         
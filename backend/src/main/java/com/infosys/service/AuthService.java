@@ -5,21 +5,32 @@ import com.infosys.dto.AuthRequest;
 import com.infosys.dto.AuthResponse;
 import com.infosys.model.User;
 import com.infosys.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
 
+// Not transactional as a whole: hashing can queue for a while and must not hold a connection meanwhile
 @Service
-@Transactional
 public class AuthService {
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+    private static final int USERNAME_ATTEMPTS = 3;
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
     
     @Autowired
     private JwtUtil jwtUtil;
@@ -27,48 +38,109 @@ public class AuthService {
     @PersistenceContext
     private EntityManager entityManager;
 
-    public AuthResponse register(AuthRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+    public AuthResponse register(AuthRequest request, String clientIp) {
+        loginRateLimiter.checkIp(clientIp);
+        if (userRepository.findSummaryByEmail(request.getEmail()).isPresent()) {
             throw new RuntimeException("Email already exists");
         }
+        String passwordHash = passwordHashingService.encode(request.getPassword());
         
         // Generate username from email if not provided
-        String username = request.getEmail().split("@")[0];
-        int counter = 1;
-        String originalUsername = username;
+        String baseUsername = request.getEmail().split("@")[0];
         
-        // Ensure username is unique
-        while (userRepository.findByUsername(username).isPresent()) {
-            username = originalUsername + counter;
-            counter++;
+        // The username check and the insert aren't atomic, so a concurrent signup with the
+        // same prefix can take the name first; the unique key catches that and we pick again
+        User savedUser;
+        for (int attempt = 1; ; attempt++) {
+            User user = new User();
+            user.setUsername(allocateUsername(baseUsername));
+            user.setFullName(request.getName());
+            user.setEmail(request.getEmail());
+            user.setPassword(passwordHash);
+            user.setCreatedAt(java.time.LocalDateTime.now());
+            user.setUpdatedAt(java.time.LocalDateTime.now());
+            try {
+                savedUser = userRepository.save(user);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                if (userRepository.findSummaryByEmail(request.getEmail()).isPresent()) {
+                    throw new RuntimeException("Email already exists");
+                }
+                if (attempt == USERNAME_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Username {} was taken concurrently, allocating again", user.getUsername());
+            }
         }
         
-        User user = new User();
-        user.setUsername(username);
-        user.setFullName(request.getName());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setCreatedAt(java.time.LocalDateTime.now());
-        user.setUpdatedAt(java.time.LocalDateTime.now());
-        
-        User savedUser = userRepository.save(user);
         String token = jwtUtil.generateToken(savedUser.getEmail());
         
         return new AuthResponse(token, "Registration successful", savedUser.getUsername(), savedUser.getId());
     }
 
-    public AuthResponse login(AuthRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+    public AuthResponse login(AuthRequest request, String clientIp) {
+        loginRateLimiter.checkIp(clientIp);
+        loginRateLimiter.checkAccount(request.getEmail());
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null || !passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            loginRateLimiter.recordFailure(request.getEmail());
             throw new RuntimeException("Invalid credentials");
         }
+        loginRateLimiter.recordSuccess(request.getEmail());
+        
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
         
         String token = jwtUtil.generateToken(user.getEmail());
         return new AuthResponse(token, "Login successful", user.getUsername(), user.getId());
     }
 
+    // Moves the stored hash to the configured work factor; skipped while hashing is saturated
+    private void rehash(User user, String rawPassword) {
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash);
+        } catch (PasswordHashingService.BusyException e) {
+            log.debug("Skipping rehash for user {}, hashing is busy", user.getId());
+        }
+    }
+
+    // One range scan over "base%" on uk_users_username instead of a lookup per taken suffix,
+    // returning only the base and base<digits>
+    private String allocateUsername(String base) {
+        String pattern = base.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        String regex = "(?i)^" + Pattern.quote(base) + "[0-9]*$";
+        return nextFreeUsername(base, userRepository.findUsernamesLike(pattern, regex));
+    }
+
+    // Same result as probing base, base1, base2, ... in turn: the base if free, else the lowest free suffix.
+    // Compared case-insensitively because that's how the column's collation compares them
+    static String nextFreeUsername(String base, Collection<String> taken) {
+        boolean baseTaken = false;
+        Set<Integer> suffixes = new HashSet<>();
+        for (String name : taken) {
+            if (name.length() == base.length()) {
+                baseTaken |= name.equalsIgnoreCase(base);
+            } else if (name.regionMatches(true, 0, base, 0, base.length())) {
+                String suffix = name.substring(base.length());
+                // Suffixes we would never generate (leading zeros, letters) can't clash with ours
+                if (suffix.length() <= 9 && suffix.charAt(0) != '0' && suffix.chars().allMatch(Character::isDigit)) {
+                    suffixes.add(Integer.parseInt(suffix));
+                }
+            }
+        }
+        if (!baseTaken) {
+            return base;
+        }
+        int counter = 1;
+        while (suffixes.contains(counter)) {
+            counter++;
+        }
+        return base + counter;
+    }
+
     public long getUserCount() {
         return userRepository.count();
     }
@@ -0,0 +1,54 @@
+package com.infosys.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.infosys.model.Budget;
+import com.infosys.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Raises 80%/100% budget alerts from BUDGET_SPENDING_CHANGED events, using the spent
+ * amounts captured when the expense was written rather than the budget's current state.
+ */
+@Component
+public class BudgetAlertConsumer implements OutboxConsumer {
+
+    @Autowired
+    private BudgetStatusService budgetStatusService;
+
+    @Override
+    public String name() {
+        return "budget-alerts";
+    }
+
+    @Override
+    public boolean supports(String eventType) {
+        return OutboxService.BUDGET_SPENDING_CHANGED.equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event, JsonNode payload) {
+        BigDecimal previousSpent = decimal(payload, "previousSpent");
+        BigDecimal spent = decimal(payload, "spentAmount");
+        if (spent.compareTo(previousSpent) <= 0) {
+            return;
+        }
+        Budget budget = new Budget();
+        budget.setId(event.getAggregateId());
+        budget.setUserId(event.getUserId());
+        budget.setCategory(payload.path("category").asText());
+        budget.setMonth(payload.path("month").asInt());
+        budget.setYear(payload.path("year").asInt());
+        budget.setBudgetAmount(decimal(payload, "budgetAmount"));
+        budget.setSpentAmount(spent);
+        budgetStatusService.recordThresholdCrossings(event.getId(), budget, previousSpent);
+    }
+
+    // Amounts are read from their text form so doubles don't pick up binary rounding
+    private static BigDecimal decimal(JsonNode payload, String field) {
+        JsonNode node = payload.path(field);
+        return node.isNumber() || node.isTextual() ? new BigDecimal(node.asText()) : BigDecimal.ZERO;
+    }
+}
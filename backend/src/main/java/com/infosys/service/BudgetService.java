@@ -0,0 +1,164 @@
+package com.infosys.service;
+
+import com.infosys.model.Budget;
+import com.infosys.model.Expense;
+import com.infosys.model.Income;
+import com.infosys.model.SavingsGoal;
+import com.infosys.repository.BudgetRepository;
+import com.infosys.repository.ExpenseRepository;
+import com.infosys.repository.IncomeRepository;
+import com.infosys.repository.SavingsGoalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Budget writes and the full spent-amount recalculation. Each write publishes a
+ * BUDGET_CHANGED outbox event and stamps a sync version in the same transaction.
+ */
+@Service
+public class BudgetService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetService.class);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SyncVersionService syncVersionService;
+
+    @Transactional
+    public Budget setBudget(Long userId, String category, BigDecimal budgetAmount, Integer month, Integer year) {
+        long version = syncVersionService.next(userId);
+        Budget budget = budgetRepository.findForUpdate(userId, category, month, year)
+                .orElse(new Budget());
+        budget.setUserId(userId);
+        budget.setCategory(category);
+        budget.setBudgetAmount(budgetAmount);
+        budget.setMonth(month);
+        budget.setYear(year);
+        budget.setUpdatedAt(LocalDateTime.now());
+        budget.setChangeVersion(version);
+        Budget saved = budgetRepository.save(budget);
+        publish(saved, "SET");
+        return saved;
+    }
+
+    @Transactional
+    public Budget updateBudget(Long userId, Long id, String category, BigDecimal budgetAmount, Integer month, Integer year) {
+        long version = syncVersionService.next(userId);
+        Budget budget = findOwned(userId, id);
+        budget.setCategory(category);
+        budget.setBudgetAmount(budgetAmount);
+        budget.setMonth(month);
+        budget.setYear(year);
+        budget.setUpdatedAt(LocalDateTime.now());
+        budget.setChangeVersion(version);
+        Budget saved = budgetRepository.save(budget);
+        publish(saved, "UPDATED");
+        return saved;
+    }
+
+    @Transactional
+    public void deleteBudget(Long userId, Long id) {
+        long version = syncVersionService.next(userId);
+        Budget budget = findOwned(userId, id);
+        budgetRepository.delete(budget);
+        syncVersionService.recordDeletion(userId, SyncVersionService.BUDGET, id, version);
+        publish(budget, "DELETED");
+    }
+
+    // Rebuilds every budget's spent amount from the expenses and goal progress from matching incomes
+    @Transactional
+    public void recalculateSpending(Long userId) {
+        long version = syncVersionService.next(userId);
+
+        List<Budget> budgets = budgetRepository.findByUserId(userId);
+        Map<String, Budget> byPeriod = new HashMap<>();
+        for (Budget budget : budgets) {
+            budget.setSpentAmount(BigDecimal.ZERO);
+            budget.setChangeVersion(version);
+            byPeriod.put(budget.getCategory() + "|" + budget.getMonth() + "|" + budget.getYear(), budget);
+        }
+
+        List<Expense> expenses = expenseRepository.findByUserId(userId);
+        log.debug("Syncing {} expenses for user {}", expenses.size(), userId);
+        for (Expense expense : expenses) {
+            try {
+                LocalDate expenseDate = expense.getTransactionDate() != null ?
+                    LocalDate.parse(expense.getTransactionDate()) : LocalDate.now();
+                Budget budget = byPeriod.get(expense.getCategory() + "|" + expenseDate.getMonthValue() + "|" + expenseDate.getYear());
+                if (budget != null) {
+                    budget.setSpentAmount(budget.getSpentAmount().add(BigDecimal.valueOf(expense.getAmount())));
+                } else if (log.isTraceEnabled()) {
+                    log.trace("No budget for category {} in {}/{}", expense.getCategory(), expenseDate.getMonthValue(), expenseDate.getYear());
+                }
+            } catch (Exception e) {
+                log.warn("Skipping expense {} during sync: {}", expense.getId(), e.getMessage());
+            }
+        }
+        budgetRepository.saveAll(budgets);
+
+        List<SavingsGoal> goals = savingsGoalRepository.findByUserId(userId);
+        for (SavingsGoal goal : goals) {
+            goal.setCurrentAmount(BigDecimal.ZERO);
+            goal.setChangeVersion(version);
+        }
+        List<Income> incomes = incomeRepository.findByUserId(userId);
+        log.debug("Syncing {} incomes for user {}", incomes.size(), userId);
+        for (Income income : incomes) {
+            for (SavingsGoal goal : goals) {
+                if (goal.getGoalName().toLowerCase().contains(income.getDescription().toLowerCase()) ||
+                    income.getDescription().toLowerCase().contains(goal.getGoalName().toLowerCase())) {
+                    goal.setCurrentAmount(goal.getCurrentAmount().add(BigDecimal.valueOf(income.getAmount())));
+                }
+            }
+        }
+        savingsGoalRepository.saveAll(goals);
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("change", "RECALCULATED");
+        payload.put("count", budgets.size());
+        outboxService.publish(userId, OutboxService.BUDGET_CHANGED, "budget", null, payload);
+    }
+
+    private Budget findOwned(Long userId, Long id) {
+        Budget budget = budgetRepository.findById(id).orElseThrow(() -> new RuntimeException("Budget not found"));
+        if (!budget.getUserId().equals(userId)) {
+            throw new RuntimeException("Unauthorized");
+        }
+        return budget;
+    }
+
+    private void publish(Budget budget, String change) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("change", change);
+        payload.put("category", budget.getCategory());
+        payload.put("month", budget.getMonth());
+        payload.put("year", budget.getYear());
+        payload.put("budgetAmount", budget.getBudgetAmount());
+        payload.put("spentAmount", budget.getSpentAmount());
+        outboxService.publish(budget.getUserId(), OutboxService.BUDGET_CHANGED, "budget", budget.getId(), payload);
+    }
+}
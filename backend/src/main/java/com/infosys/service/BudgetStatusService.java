@@ -0,0 +1,113 @@
+package com.infosys.service;
+
+import com.infosys.dto.BudgetStatus;
+import com.infosys.model.Budget;
+import com.infosys.model.BudgetAlert;
+import com.infosys.repository.BudgetAlertRepository;
+import com.infosys.repository.BudgetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Budget utilisation built from the spentAmount that TransactionService keeps up to date
+ * on every expense write, so a status read touches only the budget rows. Also records an
+ * alert whenever an expense pushes a budget across 80% or 100%; BudgetAlertConsumer
+ * calls it for each BUDGET_SPENDING_CHANGED outbox event.
+ */
+@Service
+public class BudgetStatusService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetStatusService.class);
+
+    private static final int[] THRESHOLDS = { 80, 100 };
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    public List<BudgetStatus> getStatus(Long userId, Integer month, Integer year) {
+        LocalDate today = LocalDate.now();
+        List<BudgetStatus> result = new ArrayList<>();
+        for (Budget budget : budgetRepository.findByUserIdAndMonthAndYear(userId, month, year)) {
+            result.add(toStatus(budget, today));
+        }
+        return result;
+    }
+
+    // budget carries the spent amount after the change; eventId is the outbox event reporting it
+    public void recordThresholdCrossings(Long eventId, Budget budget, BigDecimal previousSpent) {
+        BigDecimal before = percentUsed(previousSpent, budget.getBudgetAmount());
+        BigDecimal after = percentUsed(budget.getSpentAmount(), budget.getBudgetAmount());
+        for (int threshold : THRESHOLDS) {
+            BigDecimal limit = BigDecimal.valueOf(threshold);
+            if (before.compareTo(limit) < 0 && after.compareTo(limit) >= 0) {
+                if (budgetAlertRepository.existsByEventIdAndThreshold(eventId, threshold)) {
+                    continue;
+                }
+                BudgetAlert alert = new BudgetAlert(budget, threshold);
+                alert.setEventId(eventId);
+                try {
+                    budgetAlertRepository.save(alert);
+                } catch (DataIntegrityViolationException e) {
+                    // Another delivery of the same event got there first
+                    continue;
+                }
+                log.info("Budget {} for user {} crossed {}%", budget.getId(), budget.getUserId(), threshold);
+            }
+        }
+    }
+
+    private BudgetStatus toStatus(Budget budget, LocalDate today) {
+        BigDecimal spent = budget.getSpentAmount();
+        BigDecimal amount = budget.getBudgetAmount();
+        BigDecimal percent = percentUsed(spent, amount);
+
+        BudgetStatus status = new BudgetStatus();
+        status.setBudgetId(budget.getId());
+        status.setCategory(budget.getCategory());
+        status.setMonth(budget.getMonth());
+        status.setYear(budget.getYear());
+        status.setBudgetAmount(amount);
+        status.setSpentAmount(spent);
+        status.setRemainingAmount(amount.subtract(spent));
+        status.setPercentUsed(percent);
+        status.setProjectedSpend(projectedSpend(spent, YearMonth.of(budget.getYear(), budget.getMonth()), today));
+        if (percent.compareTo(HUNDRED) >= 0) {
+            status.setStatus("OVER");
+        } else if (percent.compareTo(BigDecimal.valueOf(THRESHOLDS[0])) >= 0) {
+            status.setStatus("WARNING");
+        } else {
+            status.setStatus("OK");
+        }
+        return status;
+    }
+
+    // Daily run rate so far extrapolated to month end; past and future months just report what was spent
+    private BigDecimal projectedSpend(BigDecimal spent, YearMonth month, LocalDate today) {
+        if (!month.equals(YearMonth.from(today))) {
+            return spent;
+        }
+        return spent.multiply(BigDecimal.valueOf(month.lengthOfMonth()))
+                .divide(BigDecimal.valueOf(today.getDayOfMonth()), 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal percentUsed(BigDecimal spent, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return spent.multiply(HUNDRED).divide(amount, 2, RoundingMode.HALF_UP);
+    }
+}
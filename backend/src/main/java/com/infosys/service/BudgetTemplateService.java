@@ -0,0 +1,126 @@
+package com.infosys.service;
+
+import com.infosys.dto.BudgetTemplateRequest;
+import com.infosys.model.Budget;
+import com.infosys.repository.BudgetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a categories x months budget plan in one transaction. Rows go out as a single
+ * JDBC batch of INSERT ... ON DUPLICATE KEY UPDATE against the unique
+ * (user_id, category, month, year) key, so existing budgets keep their id and
+ * spent amount and only the budget amount changes. A single BUDGET_CHANGED outbox event
+ * covers the whole plan.
+ */
+@Service
+public class BudgetTemplateService {
+
+    private static final String UPSERT = "INSERT INTO budgets (user_id, category, budget_amount, spent_amount, month, year, created_at, updated_at, change_version) "
+            + "VALUES (?, ?, ?, 0, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE budget_amount = VALUES(budget_amount), updated_at = VALUES(updated_at), change_version = VALUES(change_version)";
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SyncVersionService syncVersionService;
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    @Value("${app.budget.max-template-months:60}")
+    private int maxTemplateMonths;
+
+    @Transactional
+    public int applyTemplate(Long userId, BudgetTemplateRequest request) {
+        if (request.getCategories() == null || request.getCategories().isEmpty()) {
+            throw new RuntimeException("At least one category is required");
+        }
+        if (request.getStartMonth() == null || request.getStartYear() == null) {
+            throw new RuntimeException("Start month and year are required");
+        }
+        YearMonth start = YearMonth.of(request.getStartYear(), request.getStartMonth());
+        YearMonth end = request.getEndYear() != null && request.getEndMonth() != null
+                ? YearMonth.of(request.getEndYear(), request.getEndMonth()) : start;
+        long months = ChronoUnit.MONTHS.between(start, end) + 1;
+        if (months < 1 || months > maxTemplateMonths) {
+            throw new RuntimeException("Month range must cover 1 to " + maxTemplateMonths + " months");
+        }
+        boolean rollover = Boolean.TRUE.equals(request.getRollover());
+
+        // Existing budgets from the month before the range on, for rollover; one query
+        Map<String, Budget> existing = new HashMap<>();
+        if (rollover) {
+            for (Budget budget : budgetRepository.findByUserIdAndPeriodBetween(
+                    userId, period(start.minusMonths(1)), period(end))) {
+                existing.put(key(budget.getCategory(), YearMonth.of(budget.getYear(), budget.getMonth())), budget);
+            }
+        }
+
+        long version = syncVersionService.next(userId);
+        YearMonth current = YearMonth.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (BudgetTemplateRequest.CategoryAmount entry : request.getCategories()) {
+            if (entry.getCategory() == null || entry.getAmount() == null || entry.getAmount().signum() < 0) {
+                throw new RuntimeException("Each category needs a name and a non-negative amount");
+            }
+            BigDecimal previousAmount = null;
+            for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+                BigDecimal amount = entry.getAmount();
+                YearMonth previous = month.minusMonths(1);
+                // Only finished months have a known unspent amount to carry over
+                if (rollover && previous.isBefore(current)) {
+                    Budget previousBudget = existing.get(key(entry.getCategory(), previous));
+                    BigDecimal planned = previousAmount != null ? previousAmount
+                            : previousBudget != null ? previousBudget.getBudgetAmount() : null;
+                    if (planned != null) {
+                        BigDecimal spent = previousBudget != null ? previousBudget.getSpentAmount() : BigDecimal.ZERO;
+                        amount = amount.add(planned.subtract(spent).max(BigDecimal.ZERO));
+                    }
+                }
+                rows.add(new Object[]{ userId, entry.getCategory(), amount, month.getMonthValue(), month.getYear(), now, now, version });
+                previousAmount = amount;
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+        cacheEvictionService.evictAfterCommit(Budget.class, CacheEvictionService.BUDGET_QUERIES);
+
+        // One event for the whole plan rather than one per row
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("change", "BULK");
+        payload.put("from", start.toString());
+        payload.put("to", end.toString());
+        payload.put("count", rows.size());
+        outboxService.publish(userId, OutboxService.BUDGET_CHANGED, "budget", null, payload);
+        return rows.size();
+    }
+
+    private static int period(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue();
+    }
+
+    private static String key(String category, YearMonth month) {
+        return category + "|" + month;
+    }
+}
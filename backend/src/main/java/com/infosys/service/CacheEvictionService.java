@@ -0,0 +1,52 @@
+package com.infosys.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Second-level cache eviction for writes Hibernate doesn't see, i.e. the JdbcTemplate
+ * batches. Inside a transaction the eviction runs after commit, so a reader in between
+ * can't put the old rows back into the cache.
+ */
+@Service
+public class CacheEvictionService {
+
+    public static final String BUDGET_QUERIES = "budget-queries";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCommit(Class<?> entity, String... queryRegions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(entity, queryRegions);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(entity, queryRegions);
+            }
+        });
+    }
+
+    public void evictAll() {
+        cache().evictAllRegions();
+    }
+
+    private void evict(Class<?> entity, String... queryRegions) {
+        Cache cache = cache();
+        cache.evictEntityData(entity);
+        for (String region : queryRegions) {
+            cache.evictQueryRegion(region);
+        }
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
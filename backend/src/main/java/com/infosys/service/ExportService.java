@@ -1,6 +1,6 @@
 package com.infosys.service;
 
-import com.infosys.model.User;
+import com.infosys.dto.UserSummary;
 import com.infosys.model.Income;
 import com.infosys.model.Expense;
 import com.infosys.repository.UserRepository;
@@ -36,7 +36,7 @@ public class ExportService {
 
     public byte[] exportToPDF(String email) {
         try {
-            User user = userRepository.findByEmail(email).orElseThrow();
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
             List<Income> incomes = incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
             List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
 
@@ -102,7 +102,7 @@ public class ExportService {
 
     public String exportToCSV(String email) {
         try {
-            User user = userRepository.findByEmail(email).orElseThrow();
+            UserSummary user = userRepository.findSummaryByEmail(email).orElseThrow();
             List<Income> incomes = incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
             List<Expense> expenses = expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
 
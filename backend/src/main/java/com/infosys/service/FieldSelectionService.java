@@ -0,0 +1,78 @@
+package com.infosys.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Backs the fields= parameter of the list endpoints: selects only the named columns
+ * in a tuple query, so the rest are neither read nor serialised. Field names are
+ * checked against the endpoint's view (e.g. TransactionView.FIELDS) before they
+ * reach the query.
+ */
+@Service
+public class FieldSelectionService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // "amount,category" -> [id, amount, category]; id is always included so rows can be told apart
+    public Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new RuntimeException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    // filters are attribute = value conditions; rows come back newest first by orderBy, if given
+    public List<Map<String, Object>> select(Class<?> entity, Set<String> fields, Map<String, Object> filters, String orderBy) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<?> root = query.from(entity);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            predicates.add(builder.equal(root.get(filter.getKey()), filter.getValue()));
+        }
+        query.multiselect(selections).where(predicates.toArray(new Predicate[0]));
+        if (orderBy != null) {
+            query.orderBy(builder.desc(root.get(orderBy)));
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,154 @@
+package com.infosys.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.model.OutboxEvent;
+import com.infosys.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns committed outbox events into compact dashboard deltas on the user's live
+ * streams: "transaction", "budget" and "savings" events carrying the changed amounts,
+ * so an open dashboard can update in place instead of polling /analytics.
+ *
+ * This is not an OutboxConsumer: the dispatcher only runs on the lease holder, but
+ * streams can be connected to any node. Every node instead tails outbox_events by id
+ * and pushes the rows whose user has a stream open locally. An id can become visible
+ * after a higher one when its transaction commits later, so ids skipped over are kept
+ * and asked for again until they show up or GAP_SECONDS pass (rolled back inserts
+ * never do).
+ */
+@Component
+public class LiveUpdateConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateConsumer.class);
+
+    private static final Set<String> EVENT_TYPES = Set.of(
+            OutboxService.TRANSACTION_CREATED, OutboxService.TRANSACTION_UPDATED, OutboxService.TRANSACTION_DELETED,
+            OutboxService.TRANSACTIONS_MATERIALISED, OutboxService.BUDGET_CHANGED, OutboxService.BUDGET_SPENDING_CHANGED,
+            OutboxService.SAVINGS_CHANGED, OutboxService.SAVINGS_GOAL_CHANGED);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final long GAP_SECONDS = 60;
+    // A jump this large is an id range given up by the database, not in-flight commits
+    private static final long MAX_GAP = 1000;
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.live.batch-size:200}")
+    private int batchSize;
+
+    // Only touched from the scheduled poll, which never overlaps itself
+    private long cursor = -1;
+    private final Map<Long, LocalDateTime> gaps = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${app.live.poll-ms:500}")
+    public void poll() {
+        try {
+            if (cursor < 0 || !liveUpdateService.hasAnyConnections()) {
+                // Nothing older than the first stream is wanted
+                cursor = outboxEventRepository.findMaxId().orElse(0L);
+                gaps.clear();
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            gaps.values().removeIf(firstSeen -> firstSeen.isBefore(now.minusSeconds(GAP_SECONDS)));
+            List<OutboxEvent> events;
+            do {
+                List<Long> pending = gaps.isEmpty() ? List.of(0L) : List.copyOf(gaps.keySet());
+                events = outboxEventRepository.findAfter(cursor, pending, PageRequest.of(0, batchSize));
+                for (OutboxEvent event : events) {
+                    long id = event.getId();
+                    if (gaps.remove(id) == null) {
+                        if (id - cursor <= MAX_GAP) {
+                            for (long missing = cursor + 1; missing < id; missing++) {
+                                gaps.put(missing, now);
+                            }
+                        }
+                        cursor = id;
+                    }
+                    deliver(event);
+                }
+            } while (events.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Live update poll failed", e);
+        }
+    }
+
+    private void deliver(OutboxEvent event) {
+        if (!EVENT_TYPES.contains(event.getEventType()) || !liveUpdateService.hasConnections(event.getUserId())) {
+            return;
+        }
+        try {
+            handle(event, objectMapper.readTree(event.getPayload()));
+        } catch (Exception e) {
+            log.warn("Could not push outbox event {} to live streams", event.getId(), e);
+        }
+    }
+
+    void handle(OutboxEvent event, JsonNode payload) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("event", event.getEventType());
+        data.put("id", event.getAggregateId());
+        payload.fields().forEachRemaining(field -> data.put(field.getKey(), value(field.getValue())));
+
+        String name;
+        switch (event.getEventType()) {
+            case OutboxService.BUDGET_CHANGED:
+                name = "budget";
+                break;
+            case OutboxService.BUDGET_SPENDING_CHANGED:
+                name = "budget";
+                data.put("percentUsed", percentUsed(payload));
+                break;
+            case OutboxService.SAVINGS_CHANGED:
+            case OutboxService.SAVINGS_GOAL_CHANGED:
+                name = "savings";
+                break;
+            default:
+                name = "transaction";
+        }
+        liveUpdateService.publish(event.getUserId(), name, data);
+    }
+
+    private static Object value(JsonNode node) {
+        if (node.isNull()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            // Via the text form so doubles keep the digits they were written with
+            return new BigDecimal(node.asText());
+        }
+        return node.asText();
+    }
+
+    private static BigDecimal percentUsed(JsonNode payload) {
+        BigDecimal amount = new BigDecimal(payload.path("budgetAmount").asText("0"));
+        if (amount.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(payload.path("spentAmount").asText("0")).multiply(HUNDRED).divide(amount, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,195 @@
+package com.infosys.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user server-sent event streams for the dashboard. Events come from
+ * LiveUpdateConsumer once the write behind them has committed. Each connection has a
+ * small bounded queue drained by a shared sender pool, so a slow client never holds up
+ * the outbox tail or other users; when a queue overflows it is cleared and the
+ * client gets a single "resync" event telling it to refetch. Connections are capped
+ * per user and in total, and idle streams get a heartbeat comment so proxies keep them
+ * open.
+ *
+ * Every node tails the outbox for the users connected to it, so with several instances
+ * the stream endpoint can be served by any of them.
+ */
+@Service
+public class LiveUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.live.max-connections:2000}")
+    private int maxConnections;
+
+    @Value("${app.live.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.live.buffer-size:64}")
+    private int bufferSize;
+
+    // Clients reconnect (EventSource does so on its own) after this
+    @Value("${app.live.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.live.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private ExecutorService senders;
+    private Counter overflows;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threads = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("budgetly.live.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+        overflows = Counter.builder("budgetly.live.overflows").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        connections.values().forEach(list -> list.forEach(connection -> connection.emitter.complete()));
+    }
+
+    public SseEmitter connect(Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new LimitExceededException("Too many live connections");
+        }
+        List<Connection> userConnections = connections.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>());
+        Connection connection;
+        synchronized (userConnections) {
+            if (userConnections.size() >= maxConnectionsPerUser) {
+                connectionCount.decrementAndGet();
+                throw new LimitExceededException("Too many live connections for this account");
+            }
+            connection = new Connection(userId, new SseEmitter(timeoutMs), bufferSize);
+            userConnections.add(connection);
+        }
+        connection.emitter.onCompletion(() -> remove(connection));
+        connection.emitter.onTimeout(() -> remove(connection));
+        connection.emitter.onError(error -> remove(connection));
+        offer(connection, SseEmitter.event().name("connected").data(Map.of("ok", true)));
+        return connection.emitter;
+    }
+
+    // Never blocks: called from the outbox dispatcher threads
+    public void publish(Long userId, String eventName, Object data) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            offer(connection, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    public boolean hasAnyConnections() {
+        return connectionCount.get() > 0;
+    }
+
+    public boolean hasConnections(Long userId) {
+        List<Connection> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                offer(connection, SseEmitter.event().comment("hb"));
+            }
+        }
+    }
+
+    private void offer(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (!connection.queue.offer(event)) {
+            // The client can't keep up; swap its backlog for one resync marker
+            connection.queue.clear();
+            connection.queue.offer(SseEmitter.event().name("resync").data(Map.of("reason", "overflow")));
+            overflows.increment();
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = connection.queue.poll()) != null) {
+                connection.emitter.send(event);
+            }
+        } catch (Exception e) {
+            log.debug("Live connection for user {} closed: {}", connection.userId, e.getMessage());
+            connection.emitter.completeWithError(e);
+            remove(connection);
+            return;
+        } finally {
+            connection.draining.set(false);
+        }
+        // Something may have been queued between the last poll and releasing the flag
+        if (!connection.queue.isEmpty() && connection.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(connection));
+        }
+    }
+
+    private void remove(Connection connection) {
+        List<Connection> userConnections = connections.get(connection.userId);
+        // The user's (possibly empty) list stays mapped so connect never adds to a discarded one
+        if (userConnections != null && userConnections.remove(connection)) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    private static class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.infosys.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window limits checked before any password is hashed: every login or registration
+ * attempt counts against the client IP, failed logins count against the account, and a
+ * successful login clears the account's count. Counters are kept per node.
+ */
+@Service
+public class LoginRateLimiter {
+
+    @Value("${app.auth.rate-limit.ip-attempts:30}")
+    private int ipAttempts;
+
+    @Value("${app.auth.rate-limit.account-failures:5}")
+    private int accountFailures;
+
+    @Value("${app.auth.rate-limit.window-seconds:60}")
+    private long windowSeconds;
+
+    private final Map<String, Window> ipWindows = new ConcurrentHashMap<>();
+    private final Map<String, Window> accountWindows = new ConcurrentHashMap<>();
+
+    public void checkIp(String ip) {
+        Window window = current(ipWindows, ip);
+        if (window.count.incrementAndGet() > ipAttempts) {
+            throw new RateLimitedException(window.retryAfterSeconds(windowSeconds));
+        }
+    }
+
+    public void checkAccount(String email) {
+        Window window = accountWindows.get(key(email));
+        if (window != null && !window.expired(windowSeconds) && window.count.get() >= accountFailures) {
+            throw new RateLimitedException(window.retryAfterSeconds(windowSeconds));
+        }
+    }
+
+    public void recordFailure(String email) {
+        current(accountWindows, key(email)).count.incrementAndGet();
+    }
+
+    public void recordSuccess(String email) {
+        accountWindows.remove(key(email));
+    }
+
+    // Forget windows that have ended so a spray of IPs or emails doesn't grow the maps for good
+    @Scheduled(fixedDelayString = "${app.auth.rate-limit.window-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void evictExpired() {
+        ipWindows.values().removeIf(window -> window.expired(windowSeconds));
+        accountWindows.values().removeIf(window -> window.expired(windowSeconds));
+    }
+
+    private Window current(Map<String, Window> windows, String key) {
+        return windows.compute(key, (k, window) -> window == null || window.expired(windowSeconds) ? new Window() : window);
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Window {
+        final long startedAt = System.currentTimeMillis();
+        final AtomicInteger count = new AtomicInteger();
+
+        boolean expired(long windowSeconds) {
+            return System.currentTimeMillis() - startedAt >= windowSeconds * 1000;
+        }
+
+        long retryAfterSeconds(long windowSeconds) {
+            return Math.max(1, (startedAt + windowSeconds * 1000 - System.currentTimeMillis() + 999) / 1000);
+        }
+    }
+
+    public static class RateLimitedException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        public RateLimitedException(long retryAfterSeconds) {
+            super("Too many attempts, please try again in " + retryAfterSeconds + " seconds");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() { return retryAfterSeconds; }
+    }
+}
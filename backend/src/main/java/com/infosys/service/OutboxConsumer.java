@@ -0,0 +1,19 @@
+package com.infosys.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.infosys.model.OutboxEvent;
+
+/**
+ * Receives outbox events after the write that produced them has committed. Every Spring
+ * bean implementing this is registered with the OutboxDispatcher. Delivery is
+ * at-least-once and in order per user, so handlers must be idempotent; an exception
+ * makes the dispatcher retry the event (and hold back that user's later events).
+ */
+public interface OutboxConsumer {
+
+    String name();
+
+    boolean supports(String eventType);
+
+    void handle(OutboxEvent event, JsonNode payload) throws Exception;
+}
@@ -0,0 +1,231 @@
+package com.infosys.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.model.OutboxEvent;
+import com.infosys.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains outbox_events to the registered OutboxConsumers. One node at a time holds the
+ * "outbox" lease and does the draining. Each batch is split by user: users are delivered
+ * in parallel, a user's own events strictly in id order. When an event fails it is
+ * retried with exponential backoff and the rest of that user's events wait behind it;
+ * after max-attempts it is logged and skipped so the user isn't blocked forever.
+ * Delivery is at-least-once: a consumer can see an event again if the node dies before
+ * marking it processed or if another consumer of the same event failed.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final String LOCK_NAME = "outbox";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private List<OutboxConsumer> consumers;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.outbox.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.outbox.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${app.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private ExecutorService executor;
+    private Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Time from the write committing its event to every consumer having handled it
+        deliveryLag = Timer.builder("budgetly.outbox.delivery.lag")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        // Last seen by this node while it held the lease
+        Gauge.builder("budgetly.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("budgetly.outbox.oldest.pending.seconds", oldestPendingSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        schedulerLockService.release(LOCK_NAME);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:500}", initialDelayString = "${app.outbox.initial-delay-ms:5000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+            // Renewed per batch; stop as soon as another node has taken the lease
+            if (!schedulerLockService.tryAcquire(LOCK_NAME, lease)) {
+                return;
+            }
+            List<OutboxEvent> batch = outboxEventRepository.findPending(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            int delivered = deliverBatch(batch);
+            if (batch.size() < batchSize || delivered == 0) {
+                break;
+            }
+        }
+        updateGauges();
+    }
+
+    // Returns how many events of the batch are finished with
+    private int deliverBatch(List<OutboxEvent> batch) {
+        Map<Long, List<OutboxEvent>> byUser = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            byUser.computeIfAbsent(event.getUserId(), id -> new ArrayList<>()).add(event);
+        }
+        List<Callable<List<Long>>> tasks = new ArrayList<>();
+        for (List<OutboxEvent> events : byUser.values()) {
+            tasks.add(() -> deliverInOrder(events));
+        }
+
+        List<Long> done = new ArrayList<>();
+        try {
+            for (Future<List<Long>> future : executor.invokeAll(tasks)) {
+                done.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Outbox delivery task failed", e.getCause());
+        }
+        if (!done.isEmpty()) {
+            outboxEventRepository.markProcessed(done, LocalDateTime.now());
+        }
+        return done.size();
+    }
+
+    private List<Long> deliverInOrder(List<OutboxEvent> events) {
+        List<Long> done = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                JsonNode payload = objectMapper.readTree(event.getPayload());
+                for (OutboxConsumer consumer : consumers) {
+                    if (consumer.supports(event.getEventType())) {
+                        consumer.handle(event, payload);
+                    }
+                }
+                deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                done.add(event.getId());
+            } catch (Exception e) {
+                if (fail(event, e)) {
+                    done.add(event.getId());
+                    continue;
+                }
+                // Later events for this user wait until this one goes through
+                break;
+            }
+        }
+        return done;
+    }
+
+    // Returns true when the event has run out of attempts and is given up on
+    private boolean fail(OutboxEvent event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        Counter.builder("budgetly.outbox.failures").tag("event", event.getEventType()).register(meterRegistry).increment();
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        long backoffMs = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 20));
+        outboxEventRepository.markFailed(event.getId(), LocalDateTime.now().plusNanos(backoffMs * 1_000_000), error);
+        if (attempts >= maxAttempts) {
+            Counter.builder("budgetly.outbox.dead").tag("event", event.getEventType()).register(meterRegistry).increment();
+            log.error("Giving up on outbox event {} ({}) for user {} after {} attempts",
+                    event.getId(), event.getEventType(), event.getUserId(), attempts, e);
+            return true;
+        }
+        log.warn("Outbox event {} ({}) failed, attempt {} of {}, retrying in {} ms",
+                event.getId(), event.getEventType(), attempts, maxAttempts, backoffMs, e);
+        return false;
+    }
+
+    private void updateGauges() {
+        pending.set(outboxEventRepository.countPending());
+        oldestPendingSeconds.set(outboxEventRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).getSeconds())
+                .orElse(0L));
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-ms:3600000}", initialDelayString = "${app.outbox.cleanup-ms:3600000}")
+    public void deleteProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        int deleted;
+        do {
+            deleted = outboxEventRepository.deleteProcessedBefore(cutoff, 5000);
+        } while (deleted == 5000);
+    }
+}
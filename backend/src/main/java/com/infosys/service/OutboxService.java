@@ -0,0 +1,78 @@
+package com.infosys.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.model.Budget;
+import com.infosys.model.OutboxEvent;
+import com.infosys.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Appends domain events to the outbox_events table. Must be called inside the
+ * transaction that makes the change, so the event exists exactly when the change does;
+ * OutboxDispatcher delivers it to the consumers afterwards.
+ */
+@Service
+public class OutboxService {
+
+    public static final String TRANSACTION_CREATED = "TRANSACTION_CREATED";
+    public static final String TRANSACTION_UPDATED = "TRANSACTION_UPDATED";
+    public static final String TRANSACTION_DELETED = "TRANSACTION_DELETED";
+    public static final String TRANSACTIONS_MATERIALISED = "TRANSACTIONS_MATERIALISED";
+    public static final String BUDGET_CHANGED = "BUDGET_CHANGED";
+    public static final String BUDGET_SPENDING_CHANGED = "BUDGET_SPENDING_CHANGED";
+    public static final String SAVINGS_CHANGED = "SAVINGS_CHANGED";
+    public static final String SAVINGS_GOAL_CHANGED = "SAVINGS_GOAL_CHANGED";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Long userId, String eventType, String aggregateType, Long aggregateId, Map<String, Object> payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setUserId(userId);
+        event.setEventType(eventType);
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialise " + eventType + " event", e);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    // type is "income" or "expense", matching the transaction endpoints
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishTransaction(String eventType, String type, Long userId, Long id, Double amount, String category, String transactionDate) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", type);
+        payload.put("amount", amount);
+        payload.put("category", category);
+        payload.put("transactionDate", transactionDate);
+        publish(userId, eventType, type, id, payload);
+    }
+
+    // Budget alerts and anything else derived from spending are worked out by consumers
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishBudgetSpending(Budget budget, BigDecimal previousSpent) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("category", budget.getCategory());
+        payload.put("month", budget.getMonth());
+        payload.put("year", budget.getYear());
+        payload.put("budgetAmount", budget.getBudgetAmount());
+        payload.put("previousSpent", previousSpent);
+        payload.put("spentAmount", budget.getSpentAmount());
+        publish(budget.getUserId(), BUDGET_SPENDING_CHANGED, "budget", budget.getId(), payload);
+    }
+}
@@ -0,0 +1,250 @@
+package com.infosys.service;
+
+import com.infosys.model.ProfileImage;
+import com.infosys.model.User;
+import com.infosys.repository.ProfileImageRepository;
+import com.infosys.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps profile pictures out of the users table. Uploads are decoded once, resized into
+ * fixed variants and stored in profile_images; the user row only keeps a short URL.
+ */
+@Service
+public class ProfileImageService {
+    private static final Logger log = LoggerFactory.getLogger(ProfileImageService.class);
+
+    public static final String ORIGINAL = "original";
+    public static final String AVATAR = "avatar";
+    public static final String THUMBNAIL = "thumbnail";
+
+    private static final Map<String, Integer> VARIANT_SIZES = new LinkedHashMap<>();
+    static {
+        VARIANT_SIZES.put(AVATAR, 256);
+        VARIANT_SIZES.put(THUMBNAIL, 64);
+    }
+
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public String store(User user, byte[] bytes) {
+        return save(user, render(bytes));
+    }
+
+    // Accepts the data URI the web client sends through PUT /user/profile
+    @Transactional
+    public String storeDataUri(User user, String dataUri) {
+        return save(user, renderDataUri(dataUri));
+    }
+
+    private String save(User user, Map<String, Variant> variants) {
+        profileImageRepository.deleteByUserId(user.getId());
+        for (Map.Entry<String, Variant> variant : variants.entrySet()) {
+            saveVariant(user.getId(), variant.getKey(), variant.getValue());
+        }
+
+        String reference = reference(user.getUsername(), variants.get(ORIGINAL).getEtag());
+        user.setProfileImage(reference);
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        return reference;
+    }
+
+    @Transactional
+    public void delete(User user) {
+        profileImageRepository.deleteByUserId(user.getId());
+        user.setProfileImage(null);
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+    }
+
+    // Moves base64 images written by older versions out of the users table. On MySQL the
+    // V1_1 Flyway migration already did this; the pass covers databases Flyway doesn't manage
+    // (the h2 profile). Each user gets its own transaction so the variants and the new
+    // reference land together; an image that can't be moved is left as it was
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInlineImages() {
+        for (Long userId : userRepository.findIdsWithInlineProfileImage()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                        .filter(user -> user.getProfileImage() != null && user.getProfileImage().startsWith("data:"))
+                        .ifPresent(user -> storeDataUri(user, user.getProfileImage())));
+            } catch (RuntimeException e) {
+                log.warn("Could not move the inline profile image of user {}, leaving it in place", userId, e);
+            }
+        }
+    }
+
+    public Optional<String> findEtag(Long userId, String variant) {
+        return profileImageRepository.findEtagByUserIdAndVariant(userId, variant);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProfileImage> find(Long userId, String variant) {
+        return profileImageRepository.findByUserIdAndVariant(userId, variant)
+                .map(image -> {
+                    image.getData();
+                    return image;
+                });
+    }
+
+    public static boolean isVariant(String variant) {
+        return ORIGINAL.equals(variant) || VARIANT_SIZES.containsKey(variant);
+    }
+
+    // The pieces below are static so V1_1__MoveInlineProfileImages can use them before JPA is up
+
+    // Variant name to stored image, original first. The type comes from what ImageIO finds
+    // in the bytes, never from the client: only PNG and JPEG are stored, anything else
+    // ImageIO can read (GIF, BMP...) is re-encoded as PNG, original included
+    public static Map<String, Variant> render(byte[] bytes) {
+        String detected = detectFormat(bytes);
+        BufferedImage source = readImage(bytes);
+        String format = "jpeg".equals(detected) ? "jpg" : "png";
+        String storedType = "png".equals(format) ? "image/png" : "image/jpeg";
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        boolean keepOriginal = "png".equals(detected) || "jpeg".equals(detected);
+        variants.put(ORIGINAL, new Variant(storedType, keepOriginal ? bytes : encode(source, format)));
+        for (Map.Entry<String, Integer> variant : VARIANT_SIZES.entrySet()) {
+            variants.put(variant.getKey(), new Variant(storedType, encode(resize(source, variant.getValue()), format)));
+        }
+        return variants;
+    }
+
+    public static Map<String, Variant> renderDataUri(String dataUri) {
+        int comma = dataUri.indexOf(',');
+        if (!dataUri.startsWith("data:") || comma < 0) {
+            throw new RuntimeException("Unsupported image format");
+        }
+        return render(Base64.getDecoder().decode(dataUri.substring(comma + 1)));
+    }
+
+    public static String reference(String username, String etag) {
+        return "/api/users/" + username + "/image?v=" + etag.substring(0, 12);
+    }
+
+    private void saveVariant(Long userId, String variant, Variant rendered) {
+        ProfileImage image = new ProfileImage();
+        image.setUserId(userId);
+        image.setVariant(variant);
+        image.setContentType(rendered.getContentType());
+        image.setData(rendered.getData());
+        image.setSizeBytes(rendered.getData().length);
+        image.setEtag(rendered.getEtag());
+        profileImageRepository.save(image);
+    }
+
+    // Lower-case ImageIO format name ("png", "jpeg", "gif"...), or null when no reader matches
+    private static String detectFormat(byte[] bytes) {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            return readers.hasNext() ? readers.next().getFormatName().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read image", e);
+        }
+    }
+
+    private static BufferedImage readImage(byte[] bytes) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                throw new RuntimeException("Unsupported image format");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read image", e);
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) {
+        try {
+            BufferedImage output = image;
+            // JPEG has no alpha channel, flatten before writing
+            if ("jpg".equals(format) && image.getColorModel().hasAlpha()) {
+                output = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = output.createGraphics();
+                graphics.drawImage(image, 0, 0, java.awt.Color.WHITE, null);
+                graphics.dispose();
+            }
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ImageIO.write(output, format, baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode image", e);
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Variant {
+        private final String contentType;
+        private final byte[] data;
+        private final String etag;
+
+        public Variant(String contentType, byte[] data) {
+            this.contentType = contentType;
+            this.data = data;
+            this.etag = sha256(data);
+        }
+
+        public String getContentType() { return contentType; }
+        public byte[] getData() { return data; }
+        public String getEtag() { return etag; }
+    }
+}
@@ -0,0 +1,306 @@
+package com.infosys.service;
+
+import com.infosys.dto.RecurringTransactionRequest;
+import com.infosys.model.RecurringTransaction;
+import com.infosys.repository.BudgetRepository;
+import com.infosys.repository.RecurringTransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Recurring income/expense templates and the scheduler that turns due occurrences into
+ * transactions. Every node claims a batch of due templates with a single
+ * UPDATE ... LIMIT that skips rows under someone else's unexpired claim, so several app
+ * instances can run the scheduler side by side. A batch is materialised in one
+ * transaction: transactions are batch-inserted and budget spending is applied once per
+ * budget rather than once per occurrence. Outbox events go out per budget and per user,
+ * not per occurrence.
+ */
+@Service
+public class RecurringTransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransactionService.class);
+
+    private static final List<String> FREQUENCIES = List.of("DAILY", "WEEKLY", "MONTHLY", "CRON");
+
+    // Budget delta keys are (userId, category, year, month); locking in this order keeps two
+    // batches that share users from deadlocking on each other's budget rows
+    private static final Comparator<List<Object>> BUDGET_ORDER = Comparator
+            .comparing((List<Object> key) -> (Long) key.get(0))
+            .thenComparing(key -> (String) key.get(1), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> (Integer) key.get(2))
+            .thenComparing(key -> (Integer) key.get(3));
+
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SyncVersionService syncVersionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.recurring.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recurring.batch-size:500}")
+    private int batchSize;
+
+    // Upper bound on batches per run so one node can't hog the work after a long outage
+    @Value("${app.recurring.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.recurring.claim-lease-seconds:300}")
+    private long claimLeaseSeconds;
+
+    // Occurrences materialised per template per batch when catching up on missed days
+    @Value("${app.recurring.max-catch-up:31}")
+    private int maxCatchUp;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    public List<RecurringTransaction> findByUser(Long userId) {
+        return recurringTransactionRepository.findByUserIdOrderByNextRunDateAsc(userId);
+    }
+
+    public RecurringTransaction create(Long userId, RecurringTransactionRequest request) {
+        RecurringTransaction template = new RecurringTransaction();
+        template.setUserId(userId);
+        apply(template, request);
+        return recurringTransactionRepository.save(template);
+    }
+
+    public RecurringTransaction update(Long userId, Long id, RecurringTransactionRequest request) {
+        RecurringTransaction template = findOwned(userId, id);
+        apply(template, request);
+        template.setUpdatedAt(LocalDateTime.now());
+        return recurringTransactionRepository.save(template);
+    }
+
+    public void delete(Long userId, Long id) {
+        recurringTransactionRepository.delete(findOwned(userId, id));
+    }
+
+    @Scheduled(fixedDelayString = "${app.recurring.poll-ms:60000}", initialDelayString = "${app.recurring.initial-delay-ms:30000}")
+    public void materialiseDue() {
+        if (!enabled) {
+            return;
+        }
+        int batches = 0;
+        int occurrences = 0;
+        while (batches < maxBatchesPerRun) {
+            // A fresh token per batch so only the rows claimed just now are picked up
+            String claimToken = nodeId + ":" + UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = recurringTransactionRepository.claimDue(
+                    claimToken, now.plusSeconds(claimLeaseSeconds), LocalDate.now(), now, batchSize);
+            if (claimed == 0) {
+                break;
+            }
+            try {
+                Integer created = transactionTemplate.execute(status -> materialiseBatch(claimToken));
+                occurrences += created != null ? created : 0;
+            } catch (RuntimeException e) {
+                // The claim expires after the lease and another run picks the batch up again
+                log.error("Recurring batch {} failed, leaving {} templates for retry", claimToken, claimed, e);
+                break;
+            }
+            batches++;
+        }
+        if (occurrences > 0) {
+            log.info("Materialised {} recurring transactions in {} batches", occurrences, batches);
+        }
+    }
+
+    private int materialiseBatch(String claimToken) {
+        List<RecurringTransaction> templates = recurringTransactionRepository.findByClaimedBy(claimToken);
+        // One sync version per user for everything this batch writes for them. Taking it locks
+        // the user's sync_versions row, so users are locked in ascending id order
+        Map<Long, Long> versions = new TreeMap<>();
+        for (RecurringTransaction template : templates) {
+            versions.put(template.getUserId(), null);
+        }
+        versions.replaceAll((userId, unused) -> syncVersionService.next(userId));
+        LocalDate today = LocalDate.now();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> incomes = new ArrayList<>();
+        List<Object[]> expenses = new ArrayList<>();
+        Map<List<Object>, BigDecimal> budgetDeltas = new TreeMap<>(BUDGET_ORDER);
+        Map<Long, Integer> createdPerUser = new HashMap<>();
+        List<Object[]> scheduleUpdates = new ArrayList<>();
+
+        for (RecurringTransaction template : templates) {
+            LocalDate claimedRunDate = template.getNextRunDate();
+            LocalDate date = claimedRunDate;
+            // Kept locally: the templates stay unmodified so Hibernate has nothing to flush back
+            LocalDate lastRun = template.getLastRunDate();
+            int count = 0;
+            while (date != null && !date.isAfter(today) && !isPastEnd(template, date) && count < maxCatchUp) {
+                Object[] row = { template.getAmount(), template.getDescription(), template.getCategory(),
+                        template.getUserId(), date.toString(), createdAt, versions.get(template.getUserId()) };
+                if ("income".equals(template.getType())) {
+                    incomes.add(row);
+                } else {
+                    expenses.add(row);
+                    budgetDeltas.merge(Arrays.asList(template.getUserId(), template.getCategory(),
+                            date.getYear(), date.getMonthValue()), BigDecimal.valueOf(template.getAmount()), BigDecimal::add);
+                }
+                createdPerUser.merge(template.getUserId(), 1, Integer::sum);
+                lastRun = date;
+                date = nextRun(template, date);
+                count++;
+            }
+            boolean ended = date == null || isPastEnd(template, date);
+            Date claimed = Date.valueOf(claimedRunDate);
+            scheduleUpdates.add(new Object[]{ claimed, !ended, claimed, Date.valueOf(ended ? claimedRunDate : date),
+                    lastRun != null ? Date.valueOf(lastRun) : null,
+                    createdAt, template.getId(), claimToken });
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO incomes (amount, description, category, user_id, transaction_date, created_at, change_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", incomes);
+        jdbcTemplate.batchUpdate("INSERT INTO expenses (amount, description, category, user_id, transaction_date, created_at, change_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", expenses);
+        applyBudgetDeltas(budgetDeltas, versions);
+        for (Map.Entry<Long, Integer> entry : createdPerUser.entrySet()) {
+            outboxService.publish(entry.getKey(), OutboxService.TRANSACTIONS_MATERIALISED, "recurring_transaction", null,
+                    Map.of("count", entry.getValue(), "date", today.toString()));
+        }
+        // Only the scheduling and claim columns are written, and only while our claim holds, so an
+        // edit made during the batch isn't reverted and a template deleted meanwhile is just skipped.
+        // If the edit moved the schedule, its next_run_date and active flag win. MySQL applies SET
+        // clauses left to right, so active is checked against next_run_date before it changes
+        jdbcTemplate.batchUpdate("UPDATE recurring_transactions SET "
+                + "active = CASE WHEN next_run_date = ? THEN ? ELSE active END, "
+                + "next_run_date = CASE WHEN next_run_date = ? THEN ? ELSE next_run_date END, "
+                + "last_run_date = ?, claimed_by = NULL, claimed_until = NULL, updated_at = ? "
+                + "WHERE id = ? AND claimed_by = ?", scheduleUpdates);
+        return incomes.size() + expenses.size();
+    }
+
+    // One locked read-modify-write per affected budget for the whole batch, in BUDGET_ORDER
+    private void applyBudgetDeltas(Map<List<Object>, BigDecimal> budgetDeltas, Map<Long, Long> versions) {
+        for (Map.Entry<List<Object>, BigDecimal> entry : budgetDeltas.entrySet()) {
+            List<Object> key = entry.getKey();
+            budgetRepository.findForUpdate(
+                    (Long) key.get(0), (String) key.get(1), (Integer) key.get(3), (Integer) key.get(2))
+                .ifPresent(budget -> {
+                    BigDecimal previousSpent = budget.getSpentAmount();
+                    budget.setSpentAmount(previousSpent.add(entry.getValue()));
+                    budget.setUpdatedAt(LocalDateTime.now());
+                    budget.setChangeVersion(versions.get(budget.getUserId()));
+                    budgetRepository.save(budget);
+                    outboxService.publishBudgetSpending(budget, previousSpent);
+                });
+        }
+    }
+
+    private LocalDate nextRun(RecurringTransaction template, LocalDate from) {
+        switch (template.getFrequency()) {
+            case "DAILY":
+                return from.plusDays(1);
+            case "WEEKLY":
+                return from.plusWeeks(1);
+            case "MONTHLY":
+                LocalDate next = from.plusMonths(1);
+                return next.withDayOfMonth(Math.min(template.getStartDate().getDayOfMonth(), next.lengthOfMonth()));
+            default:
+                LocalDateTime fire = CronExpression.parse(template.getCronExpression()).next(from.atTime(23, 59, 59));
+                // null when the cron never fires again, which ends the template
+                return fire != null ? fire.toLocalDate() : null;
+        }
+    }
+
+    private boolean isPastEnd(RecurringTransaction template, LocalDate date) {
+        return template.getEndDate() != null && date.isAfter(template.getEndDate());
+    }
+
+    private RecurringTransaction findOwned(Long userId, Long id) {
+        RecurringTransaction template = recurringTransactionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Recurring transaction not found"));
+        if (!template.getUserId().equals(userId)) {
+            throw new RuntimeException("Unauthorized");
+        }
+        return template;
+    }
+
+    private void apply(RecurringTransaction template, RecurringTransactionRequest request) {
+        if (!"income".equals(request.getType()) && !"expense".equals(request.getType())) {
+            throw new RuntimeException("Invalid transaction type");
+        }
+        if (request.getAmount() == null || request.getAmount() <= 0) {
+            throw new RuntimeException("Amount must be positive");
+        }
+        String frequency = request.getFrequency() != null ? request.getFrequency().toUpperCase() : null;
+        if (!FREQUENCIES.contains(frequency)) {
+            throw new RuntimeException("Frequency must be one of " + FREQUENCIES);
+        }
+        if ("CRON".equals(frequency)) {
+            if (request.getCronExpression() == null || !CronExpression.isValidExpression(request.getCronExpression())) {
+                throw new RuntimeException("Invalid cron expression");
+            }
+        }
+        LocalDate startDate = request.getStartDate() != null ? LocalDate.parse(request.getStartDate())
+                : template.getStartDate() != null ? template.getStartDate() : LocalDate.now();
+        String cronExpression = "CRON".equals(frequency) ? request.getCronExpression() : null;
+        boolean scheduleChanged = !startDate.equals(template.getStartDate()) || !frequency.equals(template.getFrequency())
+                || !Objects.equals(cronExpression, template.getCronExpression());
+
+        template.setType(request.getType());
+        template.setAmount(request.getAmount());
+        template.setDescription(request.getDescription());
+        template.setCategory(request.getCategory());
+        template.setFrequency(frequency);
+        template.setCronExpression(cronExpression);
+        template.setEndDate(request.getEndDate() != null ? LocalDate.parse(request.getEndDate()) : null);
+        if (request.getActive() != null) {
+            template.setActive(request.getActive());
+        }
+        if (scheduleChanged) {
+            template.setStartDate(startDate);
+            // Never go back over dates that were already materialised
+            LocalDate lastRun = template.getLastRunDate();
+            LocalDate first;
+            if (lastRun != null && !lastRun.isBefore(startDate)) {
+                first = nextRun(template, lastRun);
+            } else {
+                first = "CRON".equals(frequency) ? nextRun(template, startDate.minusDays(1)) : startDate;
+            }
+            if (first == null) {
+                throw new RuntimeException("Cron expression never fires");
+            }
+            template.setNextRunDate(first);
+        }
+    }
+}
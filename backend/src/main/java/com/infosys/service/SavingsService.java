@@ -0,0 +1,194 @@
+package com.infosys.service;
+
+import com.infosys.model.Expense;
+import com.infosys.model.Savings;
+import com.infosys.model.SavingsGoal;
+import com.infosys.repository.ExpenseRepository;
+import com.infosys.repository.SavingsBalanceRepository;
+import com.infosys.repository.SavingsGoalRepository;
+import com.infosys.repository.SavingsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Savings writes together with the per-user running balance in savings_balances. Every
+ * insert, update and delete of a savings row adjusts the balance in the same transaction
+ * with an atomic increment, so the total is a single-row read. Goal progress is updated
+ * the same way instead of read-modify-write. Every write publishes SAVINGS_CHANGED or
+ * SAVINGS_GOAL_CHANGED to the outbox.
+ */
+@Service
+public class SavingsService {
+
+    @Autowired
+    private SavingsRepository savingsRepository;
+
+    @Autowired
+    private SavingsBalanceRepository savingsBalanceRepository;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SyncVersionService syncVersionService;
+
+    public BigDecimal getBalance(Long userId) {
+        return savingsBalanceRepository.findBalanceByUserId(userId).orElse(BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public Savings add(Savings savings) {
+        long version = syncVersionService.next(savings.getUserId());
+        savings.setChangeVersion(version);
+        Savings saved = savingsRepository.save(savings);
+        savingsBalanceRepository.addToBalance(saved.getUserId(), saved.getAmount(), LocalDateTime.now());
+
+        // Money moved into savings also shows up as an expense
+        Expense expense = new Expense();
+        expense.setUserId(saved.getUserId());
+        expense.setAmount(saved.getAmount().doubleValue());
+        expense.setCategory("Savings");
+        expense.setDescription("Transfer to " + saved.getGoalName()
+                + (saved.getDescription() != null && !saved.getDescription().isEmpty() ? " - " + saved.getDescription() : ""));
+        expense.setTransactionDate(LocalDate.now().toString());
+        expense.setCreatedAt(LocalDateTime.now());
+        recordExpense(expense, version);
+        publishSavings(saved.getUserId(), saved.getId(), "CREATED", saved.getAmount());
+        return saved;
+    }
+
+    // Returns null when the row doesn't exist or isn't the user's
+    @Transactional
+    public Savings update(Long userId, Long id, String goalName, BigDecimal amount, BigDecimal targetAmount, String description) {
+        long version = syncVersionService.next(userId);
+        Savings savings = savingsRepository.findByIdForUpdate(id).orElse(null);
+        if (savings == null || !savings.getUserId().equals(userId)) {
+            return null;
+        }
+        BigDecimal delta = amount.subtract(savings.getAmount());
+        savings.setGoalName(goalName);
+        savings.setAmount(amount);
+        savings.setTargetAmount(targetAmount);
+        savings.setDescription(description);
+        savings.setUpdatedAt(LocalDateTime.now());
+        savings.setChangeVersion(version);
+        Savings updated = savingsRepository.save(savings);
+        if (delta.signum() != 0) {
+            savingsBalanceRepository.addToBalance(userId, delta, LocalDateTime.now());
+        }
+        publishSavings(userId, id, "UPDATED", delta);
+        return updated;
+    }
+
+    @Transactional
+    public boolean delete(Long userId, Long id) {
+        long version = syncVersionService.next(userId);
+        Savings savings = savingsRepository.findByIdForUpdate(id).orElse(null);
+        if (savings == null || !savings.getUserId().equals(userId)) {
+            return false;
+        }
+        savingsRepository.delete(savings);
+        syncVersionService.recordDeletion(userId, SyncVersionService.SAVINGS, id, version);
+        savingsBalanceRepository.addToBalance(userId, savings.getAmount().negate(), LocalDateTime.now());
+        publishSavings(userId, id, "DELETED", savings.getAmount().negate());
+        return true;
+    }
+
+    @Transactional
+    public SavingsGoal createGoal(Long userId, String goalName, BigDecimal targetAmount, LocalDate targetDate) {
+        SavingsGoal goal = new SavingsGoal();
+        goal.setUserId(userId);
+        goal.setGoalName(goalName);
+        goal.setTargetAmount(targetAmount);
+        goal.setTargetDate(targetDate);
+        goal.setChangeVersion(syncVersionService.next(userId));
+        SavingsGoal saved = savingsGoalRepository.save(goal);
+        publishGoal(userId, saved.getId(), "CREATED", null);
+        return saved;
+    }
+
+    @Transactional
+    public void updateGoal(Long userId, Long goalId, String goalName, BigDecimal targetAmount, LocalDate targetDate) {
+        long version = syncVersionService.next(userId);
+        if (savingsGoalRepository.updateDetails(goalId, userId, goalName, targetAmount, targetDate, LocalDateTime.now(), version) == 0) {
+            throw new RuntimeException("Savings goal not found");
+        }
+        publishGoal(userId, goalId, "UPDATED", null);
+    }
+
+    @Transactional
+    public void deleteGoal(Long userId, Long goalId) {
+        long version = syncVersionService.next(userId);
+        SavingsGoal goal = savingsGoalRepository.findById(goalId).orElseThrow(() -> new RuntimeException("Savings goal not found"));
+        if (!goal.getUserId().equals(userId)) {
+            throw new RuntimeException("Unauthorized");
+        }
+        savingsGoalRepository.delete(goal);
+        syncVersionService.recordDeletion(userId, SyncVersionService.SAVINGS_GOAL, goalId, version);
+        publishGoal(userId, goalId, "DELETED", null);
+    }
+
+    @Transactional
+    public void addToGoal(Long userId, Long goalId, BigDecimal amount) {
+        addToGoal(userId, goalId, amount, syncVersionService.next(userId));
+    }
+
+    // Goal progress and the matching expense are written together or not at all
+    @Transactional
+    public void transferToGoal(Long userId, Long goalId, BigDecimal amount, String description) {
+        long version = syncVersionService.next(userId);
+        addToGoal(userId, goalId, amount, version);
+
+        Expense expense = new Expense();
+        expense.setUserId(userId);
+        expense.setAmount(amount.doubleValue());
+        expense.setDescription(description != null ? description : "Savings Transfer");
+        expense.setCategory("Savings");
+        expense.setTransactionDate(LocalDate.now().toString());
+        expense.setCreatedAt(LocalDateTime.now());
+        recordExpense(expense, version);
+    }
+
+    private void addToGoal(Long userId, Long goalId, BigDecimal amount, long version) {
+        if (savingsGoalRepository.addToCurrentAmount(goalId, userId, amount, LocalDateTime.now(), version) == 0) {
+            throw new RuntimeException("Savings goal not found");
+        }
+        publishGoal(userId, goalId, "AMOUNT_ADDED", amount);
+    }
+
+    private void recordExpense(Expense expense, long version) {
+        expense.setChangeVersion(version);
+        Expense saved = expenseRepository.save(expense);
+        outboxService.publishTransaction(OutboxService.TRANSACTION_CREATED, "expense", saved.getUserId(), saved.getId(),
+                saved.getAmount(), saved.getCategory(), saved.getTransactionDate());
+    }
+
+    private void publishSavings(Long userId, Long savingsId, String change, BigDecimal delta) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("change", change);
+        payload.put("delta", delta);
+        // Balance as of this transaction, including its own change
+        payload.put("balance", getBalance(userId));
+        outboxService.publish(userId, OutboxService.SAVINGS_CHANGED, "savings", savingsId, payload);
+    }
+
+    private void publishGoal(Long userId, Long goalId, String change, BigDecimal amount) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("change", change);
+        payload.put("amount", amount);
+        outboxService.publish(userId, OutboxService.SAVINGS_GOAL_CHANGED, "savings_goal", goalId, payload);
+    }
+}
@@ -0,0 +1,46 @@
+package com.infosys.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lease-based lock in the scheduler_locks table for scheduled jobs that must only run on
+ * one node. The holder renews the lease every time it calls tryAcquire; when it stops
+ * (crash, shutdown) another node takes over once the lease has run out.
+ */
+@Service
+public class SchedulerLockService {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp until = Timestamp.valueOf(now.plus(lease));
+        int updated = jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_by = ?, locked_until = ? WHERE name = ? AND (locked_until IS NULL OR locked_until < ? OR locked_by = ?)",
+                nodeId, until, name, Timestamp.valueOf(now), nodeId);
+        if (updated == 0) {
+            // First use of this lock name; whoever inserts the row holds it
+            updated = jdbcTemplate.update(
+                    "INSERT IGNORE INTO scheduler_locks (name, locked_by, locked_until) VALUES (?, ?, ?)", name, nodeId, until);
+        }
+        return updated > 0;
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = NULL WHERE name = ? AND locked_by = ?", name, nodeId);
+    }
+}
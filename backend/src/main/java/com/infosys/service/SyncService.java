@@ -0,0 +1,158 @@
+package com.infosys.service;
+
+import com.infosys.dto.SyncChanges;
+import com.infosys.model.SyncTombstone;
+import com.infosys.repository.BudgetRepository;
+import com.infosys.repository.ExpenseRepository;
+import com.infosys.repository.IncomeRepository;
+import com.infosys.repository.SavingsGoalRepository;
+import com.infosys.repository.SavingsRepository;
+import com.infosys.repository.SyncTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Delta sync over incomes, expenses, budgets, savings goals and savings. The token is the
+ * user's sync version (see SyncVersionService); a call returns every row stamped after it
+ * plus tombstones for deleted rows, ordered by version and paged so a page never ends
+ * in the middle of a version. Without a token it is a full load. Everything is read in
+ * one read-only transaction so the page is a consistent snapshot.
+ */
+@Service
+public class SyncService {
+
+    @Autowired
+    private SyncVersionService syncVersionService;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private SavingsRepository savingsRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${app.sync.max-page-size:2000}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public SyncChanges getChanges(Long userId, String token, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new RuntimeException("limit must be between 1 and " + maxPageSize);
+        }
+        SyncChanges changes = new SyncChanges();
+        long since = parseToken(token);
+        if (since >= 0 && since < syncVersionService.prunedThrough(userId)) {
+            // Deletions older than the token may already be forgotten
+            changes.setReset(true);
+            since = -1;
+        }
+        long upTo = syncVersionService.current(userId);
+
+        Pageable page = PageRequest.of(0, limit + 1);
+        changes.setIncomes(incomeRepository.findChanges(userId, since, upTo, page));
+        changes.setExpenses(expenseRepository.findChanges(userId, since, upTo, page));
+        changes.setBudgets(budgetRepository.findChanges(userId, since, upTo, page));
+        changes.setSavingsGoals(savingsGoalRepository.findChanges(userId, since, upTo, page));
+        changes.setSavings(savingsRepository.findChanges(userId, since, upTo, page));
+        // A full load has nothing to delete
+        List<SyncTombstone> tombstones = since >= 0
+                ? syncTombstoneRepository.findChanges(userId, since, upTo, page) : Collections.emptyList();
+
+        List<Long> versions = new ArrayList<>();
+        addVersions(versions, changes.getIncomes(), income -> income.getChangeVersion());
+        addVersions(versions, changes.getExpenses(), expense -> expense.getChangeVersion());
+        addVersions(versions, changes.getBudgets(), budget -> budget.getChangeVersion());
+        addVersions(versions, changes.getSavingsGoals(), goal -> goal.getChangeVersion());
+        addVersions(versions, changes.getSavings(), savings -> savings.getChangeVersion());
+        addVersions(versions, tombstones, tombstone -> tombstone.getChangeVersion());
+
+        long through = upTo;
+        if (versions.size() > limit) {
+            Collections.sort(versions);
+            // Stop before the first version that doesn't fit, and before any version a
+            // single table was cut off in (its remaining rows at that version weren't read)
+            through = versions.get(limit) - 1;
+            through = Math.min(through, lastFetched(changes.getIncomes(), limit, income -> income.getChangeVersion()));
+            through = Math.min(through, lastFetched(changes.getExpenses(), limit, expense -> expense.getChangeVersion()));
+            through = Math.min(through, lastFetched(changes.getBudgets(), limit, budget -> budget.getChangeVersion()));
+            through = Math.min(through, lastFetched(changes.getSavingsGoals(), limit, goal -> goal.getChangeVersion()));
+            through = Math.min(through, lastFetched(changes.getSavings(), limit, savings -> savings.getChangeVersion()));
+            through = Math.min(through, lastFetched(tombstones, limit, tombstone -> tombstone.getChangeVersion()));
+            if (through <= since) {
+                // One version holds more rows than a page; send that version whole
+                loadSingleVersion(userId, versions.get(0), changes);
+                tombstones = since >= 0
+                        ? syncTombstoneRepository.findByUserIdAndChangeVersion(userId, versions.get(0)) : Collections.emptyList();
+                through = versions.get(0);
+            } else {
+                long cutoff = through;
+                changes.getIncomes().removeIf(income -> income.getChangeVersion() > cutoff);
+                changes.getExpenses().removeIf(expense -> expense.getChangeVersion() > cutoff);
+                changes.getBudgets().removeIf(budget -> budget.getChangeVersion() > cutoff);
+                changes.getSavingsGoals().removeIf(goal -> goal.getChangeVersion() > cutoff);
+                changes.getSavings().removeIf(savings -> savings.getChangeVersion() > cutoff);
+                tombstones.removeIf(tombstone -> tombstone.getChangeVersion() > cutoff);
+            }
+        }
+        for (SyncTombstone tombstone : tombstones) {
+            changes.getDeleted().add(new SyncChanges.Deleted(tombstone.getEntityType(), tombstone.getEntityId()));
+        }
+        changes.setToken(String.valueOf(Math.max(through, 0)));
+        changes.setHasMore(through < upTo);
+        return changes;
+    }
+
+    private void loadSingleVersion(Long userId, Long version, SyncChanges changes) {
+        changes.setIncomes(incomeRepository.findByUserIdAndChangeVersion(userId, version));
+        changes.setExpenses(expenseRepository.findByUserIdAndChangeVersion(userId, version));
+        changes.setBudgets(budgetRepository.findByUserIdAndChangeVersion(userId, version));
+        changes.setSavingsGoals(savingsGoalRepository.findByUserIdAndChangeVersion(userId, version));
+        changes.setSavings(savingsRepository.findByUserIdAndChangeVersion(userId, version));
+    }
+
+    private static <T> void addVersions(List<Long> versions, List<T> rows, ToLongFunction<T> version) {
+        for (T row : rows) {
+            versions.add(version.applyAsLong(row));
+        }
+    }
+
+    // For a table that filled its page, the rows at its last version may continue past it
+    private static <T> long lastFetched(List<T> rows, int limit, ToLongFunction<T> version) {
+        return rows.size() > limit ? version.applyAsLong(rows.get(rows.size() - 1)) - 1 : Long.MAX_VALUE;
+    }
+
+    private static long parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return -1;
+        }
+        try {
+            long since = Long.parseLong(token.trim());
+            if (since < 0) {
+                throw new NumberFormatException();
+            }
+            return since;
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid sync token");
+        }
+    }
+}
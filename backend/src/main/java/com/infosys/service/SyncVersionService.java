@@ -0,0 +1,85 @@
+package com.infosys.service;
+
+import com.infosys.model.SyncTombstone;
+import com.infosys.repository.SyncTombstoneRepository;
+import com.infosys.repository.SyncVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-user change versions for delta sync. Every write to a synced table (incomes,
+ * expenses, budgets, savings_goals, savings) stamps the rows it touches with next(userId)
+ * and records a tombstone for each row it deletes. next() increments the user's counter
+ * with a row lock that is held until the write commits, so a user's versions become
+ * visible in order and a client that has seen version N can never miss a change at or
+ * below N.
+ */
+@Service
+public class SyncVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncVersionService.class);
+
+    public static final String INCOME = "income";
+    public static final String EXPENSE = "expense";
+    public static final String BUDGET = "budget";
+    public static final String SAVINGS_GOAL = "savings_goal";
+    public static final String SAVINGS = "savings";
+
+    @Autowired
+    private SyncVersionRepository syncVersionRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private long tombstoneRetentionDays;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long userId) {
+        syncVersionRepository.increment(userId, LocalDateTime.now());
+        return syncVersionRepository.findVersionByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("Sync version missing for user " + userId));
+    }
+
+    public long current(Long userId) {
+        return syncVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+
+    public long prunedThrough(Long userId) {
+        return syncVersionRepository.findPrunedThroughByUserId(userId).orElse(0L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long userId, String entityType, Long entityId, long version) {
+        syncTombstoneRepository.save(new SyncTombstone(userId, entityType, entityId, version));
+    }
+
+    // Clients offline for longer than the retention get reset=true and reload everything
+    @Scheduled(cron = "${app.sync.tombstone-cleanup-cron:0 30 3 * * *}")
+    public void pruneTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        List<Object[]> prunable = syncTombstoneRepository.findPrunableVersions(cutoff);
+        // Raise the horizon first so no client is ever told it's up to date across a gap
+        for (Object[] row : prunable) {
+            syncVersionRepository.raisePrunedThrough((Long) row[0], (Long) row[1]);
+        }
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = syncTombstoneRepository.deleteDeletedBefore(cutoff, 5000);
+            deleted += chunk;
+        } while (chunk == 5000);
+        if (deleted > 0) {
+            log.info("Pruned {} sync tombstones older than {} days", deleted, tombstoneRetentionDays);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.infosys.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds the database with synthetic users, transactions, budgets and forum activity for
+ * load testing. Enabled with app.seed.enabled=true (the loadtest profile). Rows are
+ * written with JDBC batch inserts, and every user gets the password in
+ * app.seed.password so the load runner can log in as any of them.
+ */
+@Service
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] INCOME_CATEGORIES = { "Salary", "Freelance", "Investments", "Gift" };
+    private static final String[] FORUM_CATEGORIES = { "Budgeting", "Saving", "Investing", "Debt", "General" };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    @Value("${app.seed.users:100}")
+    private int users;
+
+    @Value("${app.seed.transactions-per-user:200}")
+    private int transactionsPerUser;
+
+    // Share of generated transactions that are incomes
+    @Value("${app.seed.income-ratio:0.2}")
+    private double incomeRatio;
+
+    @Value("${app.seed.expense-categories:Food:30,Rent:10,Transport:15,Shopping:15,Utilities:10,Entertainment:10,Health:5,Education:5}")
+    private String expenseCategories;
+
+    @Value("${app.seed.date-spread-days:365}")
+    private int dateSpreadDays;
+
+    @Value("${app.seed.budget-months:3}")
+    private int budgetMonths;
+
+    @Value("${app.seed.forum-posts-per-user:0.5}")
+    private double forumPostsPerUser;
+
+    @Value("${app.seed.comments-per-post:3}")
+    private int commentsPerPost;
+
+    @Value("${app.seed.password:loadtest123}")
+    private String password;
+
+    @Value("${app.seed.email-prefix:loaduser}")
+    private String emailPrefix;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email(1));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic data already present, skipping seed");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        WeightedCategories categories = new WeightedCategories(expenseCategories);
+
+        List<Long> userIds = insertUsers();
+        long transactions = 0;
+        for (Long userId : userIds) {
+            transactions += insertTransactionsAndBudgets(userId, random, categories);
+        }
+        long forumRows = insertForumActivity(userIds, random);
+        // Rows went in through JDBC; nothing cached before the seed may be served afterwards
+        cacheEvictionService.evictAll();
+
+        log.info("Seeded {} users, {} transactions and {} forum rows in {} ms",
+                userIds.size(), transactions, forumRows, System.currentTimeMillis() - started);
+    }
+
+    private List<Long> insertUsers() {
+        // One hash for everybody; BCrypt per user would dominate the seeding time
+        String passwordHash = passwordEncoder.encode(password);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            rows.add(new Object[]{ emailPrefix + i, passwordHash, email(i), "Load User " + i, "INR", now, now });
+        }
+        batchInsert("INSERT INTO users (username, password, email, full_name, preferred_currency, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, emailPrefix + "%@example.com");
+    }
+
+    private long insertTransactionsAndBudgets(Long userId, Random random, WeightedCategories categories) {
+        List<Object[]> incomes = new ArrayList<>();
+        List<Object[]> expenses = new ArrayList<>();
+        Map<String, BigDecimal> spentByBudget = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        LocalDate budgetStart = today.withDayOfMonth(1).minusMonths(budgetMonths - 1L);
+
+        for (int i = 0; i < transactionsPerUser; i++) {
+            LocalDate date = today.minusDays(random.nextInt(Math.max(1, dateSpreadDays)));
+            Timestamp createdAt = Timestamp.valueOf(date.atTime(random.nextInt(24), random.nextInt(60)));
+            if (random.nextDouble() < incomeRatio) {
+                double amount = round(5000 + random.nextDouble() * 95000);
+                String category = INCOME_CATEGORIES[random.nextInt(INCOME_CATEGORIES.length)];
+                incomes.add(new Object[]{ amount, category + " payment", category, userId, date.toString(), createdAt });
+            } else {
+                double amount = round(50 + random.nextDouble() * 4950);
+                String category = categories.next(random);
+                expenses.add(new Object[]{ amount, category + " expense", category, userId, date.toString(), createdAt });
+                if (!date.isBefore(budgetStart)) {
+                    spentByBudget.merge(category + "|" + date.getMonthValue() + "|" + date.getYear(),
+                            BigDecimal.valueOf(amount), BigDecimal::add);
+                }
+            }
+        }
+        // Seeded rows sit at sync version 0, i.e. only in a client's initial full sync
+        batchInsert("INSERT INTO incomes (amount, description, category, user_id, transaction_date, created_at, change_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", incomes);
+        batchInsert("INSERT INTO expenses (amount, description, category, user_id, transaction_date, created_at, change_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", expenses);
+
+        List<Object[]> budgets = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int m = 0; m < budgetMonths; m++) {
+            LocalDate month = budgetStart.plusMonths(m);
+            for (String category : categories.names()) {
+                BigDecimal spent = spentByBudget.getOrDefault(
+                        category + "|" + month.getMonthValue() + "|" + month.getYear(), BigDecimal.ZERO);
+                BigDecimal amount = BigDecimal.valueOf(2000 + random.nextInt(18000));
+                budgets.add(new Object[]{ userId, category, amount, spent.setScale(2, RoundingMode.HALF_UP),
+                        month.getMonthValue(), month.getYear(), now, now });
+            }
+        }
+        batchInsert("INSERT INTO budgets (user_id, category, budget_amount, spent_amount, month, year, created_at, updated_at, change_version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", budgets);
+        return incomes.size() + expenses.size();
+    }
+
+    private long insertForumActivity(List<Long> userIds, Random random) {
+        int postCount = (int) Math.round(userIds.size() * forumPostsPerUser);
+        if (postCount == 0) {
+            return 0;
+        }
+        List<Object[]> posts = new ArrayList<>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            Long userId = userIds.get(random.nextInt(userIds.size()));
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusHours(random.nextInt(24 * Math.max(1, dateSpreadDays))));
+            posts.add(new Object[]{ "Synthetic post " + i, "Sharing some thoughts on managing money, post " + i + ".",
+                    FORUM_CATEGORIES[random.nextInt(FORUM_CATEGORIES.length)], userId, "Load User " + userId,
+                    random.nextInt(50), createdAt, createdAt });
+        }
+        batchInsert("INSERT INTO forum_posts (title, content, category, user_id, user_name, likes_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", posts);
+
+        List<Long> postIds = jdbcTemplate.queryForList(
+                "SELECT id FROM forum_posts WHERE title LIKE 'Synthetic post %'", Long.class);
+        List<Object[]> comments = new ArrayList<>();
+        for (Long postId : postIds) {
+            int count = random.nextInt(commentsPerPost * 2 + 1);
+            for (int c = 0; c < count; c++) {
+                Long userId = userIds.get(random.nextInt(userIds.size()));
+                comments.add(new Object[]{ "Synthetic comment " + c, postId, userId, "Load User " + userId,
+                        Timestamp.valueOf(LocalDateTime.now()) });
+            }
+        }
+        batchInsert("INSERT INTO forum_comments (content, post_id, user_id, user_name, created_at) VALUES (?, ?, ?, ?, ?)", comments);
+        return posts.size() + comments.size();
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    private String email(int index) {
+        return emailPrefix + index + "@example.com";
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    // Parses "Food:30,Rent:10" into a cumulative weight table
+    private static class WeightedCategories {
+        private final Map<String, Integer> weights = new LinkedHashMap<>();
+        private int total;
+
+        WeightedCategories(String spec) {
+            for (String part : spec.split(",")) {
+                String[] pair = part.trim().split(":");
+                int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+                weights.put(pair[0].trim(), weight);
+                total += weight;
+            }
+        }
+
+        String next(Random random) {
+            int pick = random.nextInt(total);
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            return weights.keySet().iterator().next();
+        }
+
+        List<String> names() {
+            return new ArrayList<>(weights.keySet());
+        }
+    }
+}
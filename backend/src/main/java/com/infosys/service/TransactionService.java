@@ -2,22 +2,29 @@ package com.infosys.service;
 
 import com.infosys.config.JwtUtil;
 import com.infosys.dto.TransactionRequest;
+import com.infosys.dto.TransactionView;
 import com.infosys.model.Income;
 import com.infosys.model.Expense;
 import com.infosys.model.Budget;
-import com.infosys.model.User;
+import com.infosys.dto.UserSummary;
 import com.infosys.repository.IncomeRepository;
 import com.infosys.repository.ExpenseRepository;
 import com.infosys.repository.BudgetRepository;
 import com.infosys.repository.SavingsGoalRepository;
 import com.infosys.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.math.BigDecimal;
 
 @Service
 public class TransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
+
     @Autowired
     private IncomeRepository incomeRepository;
     
@@ -33,13 +40,24 @@ public class TransactionService {
     @Autowired
     private SavingsGoalRepository savingsGoalRepository;
     
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private SyncVersionService syncVersionService;
+    
+    @Autowired
+    private FieldSelectionService fieldSelectionService;
+    
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Transactional
     public String addTransaction(TransactionRequest request, String token) {
         String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
+        UserSummary user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        long version = syncVersionService.next(user.getId());
 
         if ("income".equals(request.getType())) {
             Income income = new Income();
@@ -48,7 +66,10 @@ public class TransactionService {
             income.setCategory(request.getCategory());
             income.setTransactionDate(request.getDate());
             income.setUserId(user.getId());
+            income.setChangeVersion(version);
             incomeRepository.save(income);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_CREATED, "income", income.getUserId(), income.getId(),
+                    income.getAmount(), income.getCategory(), income.getTransactionDate());
             
             // Removed automatic savings goal update - use manual savings transactions instead
             
@@ -60,11 +81,14 @@ public class TransactionService {
             expense.setCategory(request.getCategory());
             expense.setTransactionDate(request.getDate());
             expense.setUserId(user.getId());
+            expense.setChangeVersion(version);
             expenseRepository.save(expense);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_CREATED, "expense", expense.getUserId(), expense.getId(),
+                    expense.getAmount(), expense.getCategory(), expense.getTransactionDate());
             
             // Update budget spending
             LocalDate transactionDate = request.getDate() != null ? LocalDate.parse(request.getDate()) : LocalDate.now();
-            updateBudgetSpending(user.getId(), request.getCategory(), BigDecimal.valueOf(request.getAmount()), transactionDate);
+            updateBudgetSpending(user.getId(), request.getCategory(), BigDecimal.valueOf(request.getAmount()), transactionDate, version);
             
             return "Expense added successfully";
         } else {
@@ -72,24 +96,35 @@ public class TransactionService {
         }
     }
 
-    public java.util.List<Income> getIncomes(String token) {
+    // fields is the optional comma-separated fields= selection; without it the full TransactionView is returned
+    public java.util.List<?> getIncomes(String token, String fields) {
         String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
+        UserSummary user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        if (fields == null) {
+            return incomeRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), TransactionView.class);
+        }
+        return fieldSelectionService.select(Income.class, fieldSelectionService.parse(fields, TransactionView.FIELDS),
+                java.util.Map.of("userId", user.getId()), "createdAt");
     }
 
-    public java.util.List<Expense> getExpenses(String token) {
+    public java.util.List<?> getExpenses(String token, String fields) {
         String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
+        UserSummary user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        if (fields == null) {
+            return expenseRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), TransactionView.class);
+        }
+        return fieldSelectionService.select(Expense.class, fieldSelectionService.parse(fields, TransactionView.FIELDS),
+                java.util.Map.of("userId", user.getId()), "createdAt");
     }
 
+    @Transactional
     public String updateTransaction(String type, Long id, TransactionRequest request, String token) {
         String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
+        UserSummary user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        long version = syncVersionService.next(user.getId());
 
         if ("income".equals(type)) {
             Income income = incomeRepository.findById(id)
@@ -103,7 +138,10 @@ public class TransactionService {
             income.setAmount(request.getAmount());
             income.setDescription(request.getDescription());
             income.setCategory(request.getCategory());
+            income.setChangeVersion(version);
             incomeRepository.save(income);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_UPDATED, "income", income.getUserId(), income.getId(),
+                    income.getAmount(), income.getCategory(), income.getTransactionDate());
             
             // Removed automatic savings goal update - use manual savings transactions instead
             
@@ -121,12 +159,15 @@ public class TransactionService {
             expense.setAmount(request.getAmount());
             expense.setDescription(request.getDescription());
             expense.setCategory(request.getCategory());
+            expense.setChangeVersion(version);
             expenseRepository.save(expense);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_UPDATED, "expense", expense.getUserId(), expense.getId(),
+                    expense.getAmount(), expense.getCategory(), expense.getTransactionDate());
             
             // Revert old budget spending and add new
-            revertBudgetSpending(user.getId(), oldCategory, oldAmount, oldDate);
+            revertBudgetSpending(user.getId(), oldCategory, oldAmount, oldDate, version);
             LocalDate newTransactionDate = request.getDate() != null ? LocalDate.parse(request.getDate()) : LocalDate.now();
-            updateBudgetSpending(user.getId(), request.getCategory(), BigDecimal.valueOf(request.getAmount()), newTransactionDate);
+            updateBudgetSpending(user.getId(), request.getCategory(), BigDecimal.valueOf(request.getAmount()), newTransactionDate, version);
             
             return "Expense updated successfully";
         } else {
@@ -134,59 +175,80 @@ public class TransactionService {
         }
     }
 
+    @Transactional
     public String deleteTransaction(String type, Long id, String token) {
         String email = jwtUtil.extractEmail(token);
-        User user = userRepository.findByEmail(email)
+        UserSummary user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        long version = syncVersionService.next(user.getId());
 
         if ("income".equals(type)) {
             Income income = incomeRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Income not found"));
+            if (!income.getUserId().equals(user.getId())) {
+                throw new RuntimeException("Unauthorized");
+            }
             
             // Removed automatic savings goal update - use manual savings transactions instead
             
             incomeRepository.deleteById(id);
+            syncVersionService.recordDeletion(income.getUserId(), SyncVersionService.INCOME, id, version);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_DELETED, "income", income.getUserId(), id,
+                    income.getAmount(), income.getCategory(), income.getTransactionDate());
             return "Income deleted successfully";
         } else if ("expense".equals(type)) {
             Expense expense = expenseRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Expense not found"));
+            if (!expense.getUserId().equals(user.getId())) {
+                throw new RuntimeException("Unauthorized");
+            }
             
             // Revert budget spending
             LocalDate expenseDate = expense.getTransactionDate() != null ? LocalDate.parse(expense.getTransactionDate()) : LocalDate.now();
-            revertBudgetSpending(user.getId(), expense.getCategory(), BigDecimal.valueOf(expense.getAmount()), expenseDate);
+            revertBudgetSpending(user.getId(), expense.getCategory(), BigDecimal.valueOf(expense.getAmount()), expenseDate, version);
             
             expenseRepository.deleteById(id);
+            syncVersionService.recordDeletion(expense.getUserId(), SyncVersionService.EXPENSE, id, version);
+            outboxService.publishTransaction(OutboxService.TRANSACTION_DELETED, "expense", expense.getUserId(), id,
+                    expense.getAmount(), expense.getCategory(), expense.getTransactionDate());
             return "Expense deleted successfully";
         } else {
             throw new RuntimeException("Invalid transaction type");
         }
     }
     
-    private void updateBudgetSpending(Long userId, String category, BigDecimal amount, LocalDate transactionDate) {
+    private void updateBudgetSpending(Long userId, String category, BigDecimal amount, LocalDate transactionDate, long version) {
         int month = transactionDate.getMonthValue();
         int year = transactionDate.getYear();
         
-        System.out.println("Updating budget - User: " + userId + ", Category: " + category + ", Amount: " + amount + ", Month: " + month + ", Year: " + year);
-        
-        budgetRepository.findByUserIdAndCategoryAndMonthAndYear(userId, category, month, year)
+        budgetRepository.findForUpdate(userId, category, month, year)
             .ifPresentOrElse(budget -> {
-                BigDecimal oldSpent = budget.getSpentAmount();
-                budget.setSpentAmount(budget.getSpentAmount().add(amount));
+                BigDecimal previousSpent = budget.getSpentAmount();
+                budget.setSpentAmount(previousSpent.add(amount));
+                budget.setChangeVersion(version);
                 budgetRepository.save(budget);
-                System.out.println("Budget updated - Old spent: " + oldSpent + ", New spent: " + budget.getSpentAmount());
+                outboxService.publishBudgetSpending(budget, previousSpent);
+                if (log.isDebugEnabled()) {
+                    log.debug("Budget {} spent now {} after {} in {}", budget.getId(), budget.getSpentAmount(), amount, category);
+                }
             }, () -> {
-                System.out.println("No budget found for category: " + category + ", month: " + month + ", year: " + year);
+                if (log.isDebugEnabled()) {
+                    log.debug("No budget for user {} category {} in {}/{}", userId, category, month, year);
+                }
             });
     }
     
-    private void revertBudgetSpending(Long userId, String category, BigDecimal amount, LocalDate transactionDate) {
+    private void revertBudgetSpending(Long userId, String category, BigDecimal amount, LocalDate transactionDate, long version) {
         int month = transactionDate.getMonthValue();
         int year = transactionDate.getYear();
         
-        budgetRepository.findByUserIdAndCategoryAndMonthAndYear(userId, category, month, year)
+        budgetRepository.findForUpdate(userId, category, month, year)
             .ifPresent(budget -> {
-                budget.setSpentAmount(budget.getSpentAmount().subtract(amount));
+                BigDecimal previousSpent = budget.getSpentAmount();
+                budget.setSpentAmount(previousSpent.subtract(amount));
+                budget.setChangeVersion(version);
                 budgetRepository.save(budget);
+                outboxService.publishBudgetSpending(budget, previousSpent);
             });
     }
     
@@ -195,12 +257,8 @@ public class TransactionService {
             if (goal.getGoalName().toLowerCase().contains(description.toLowerCase()) || 
                 description.toLowerCase().contains(goal.getGoalName().toLowerCase())) {
                 
-                BigDecimal oldAmount = goal.getCurrentAmount();
                 goal.setCurrentAmount(goal.getCurrentAmount().add(amount));
                 savingsGoalRepository.save(goal);
-                
-                System.out.println("Updated savings goal '" + goal.getGoalName() + "' - Old: " + 
-                    oldAmount + ", New: " + goal.getCurrentAmount());
             }
         });
     }
@@ -215,8 +273,6 @@ public class TransactionService {
                     goal.setCurrentAmount(BigDecimal.ZERO);
                 }
                 savingsGoalRepository.save(goal);
-                
-                System.out.println("Reverted savings goal '" + goal.getGoalName() + "': " + goal.getCurrentAmount());
             }
         });
     }
@@ -0,0 +1,183 @@
+-- Schema as it stood when ddl-auto=update was replaced by migrations. Every table uses
+-- IF NOT EXISTS so the script also runs against databases that Hibernate created
+-- (Flyway baselines them at version 0, see application.properties).
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    mobile VARCHAR(255),
+    monthly_income VARCHAR(255),
+    preferred_currency VARCHAR(255),
+    financial_goal VARCHAR(255),
+    financial_score INT,
+    profile_image VARCHAR(512),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_users_username (username)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS simple_users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_name VARCHAR(255),
+    user_email VARCHAR(255),
+    user_password VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS profiles (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    phone VARCHAR(255),
+    address VARCHAR(255),
+    gender VARCHAR(255),
+    date_of_birth VARCHAR(255),
+    occupation VARCHAR(255),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_profiles_user (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS profile_images (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    variant VARCHAR(16) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    etag VARCHAR(64) NOT NULL,
+    size_bytes INT NOT NULL,
+    data LONGBLOB NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS incomes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    amount DOUBLE NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    transaction_date VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS expenses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    amount DOUBLE NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    transaction_date VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS recurring_transactions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    amount DOUBLE NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    frequency VARCHAR(255) NOT NULL,
+    cron_expression VARCHAR(255),
+    start_date DATE NOT NULL,
+    next_run_date DATE NOT NULL,
+    end_date DATE,
+    last_run_date DATE,
+    active BIT(1) NOT NULL,
+    claimed_by VARCHAR(64),
+    claimed_until DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    KEY idx_recurring_due (active, next_run_date),
+    KEY idx_recurring_user (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS budgets (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    budget_amount DECIMAL(10,2) NOT NULL,
+    spent_amount DECIMAL(10,2) NOT NULL,
+    month INT NOT NULL,
+    year INT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS budget_alerts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    budget_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    month INT NOT NULL,
+    year INT NOT NULL,
+    threshold INT NOT NULL,
+    spent_amount DECIMAL(10,2) NOT NULL,
+    budget_amount DECIMAL(10,2) NOT NULL,
+    is_read BIT(1) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    KEY idx_budget_alerts_user_created (user_id, created_at)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS savings_goals (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    goal_name VARCHAR(255) NOT NULL,
+    target_amount DECIMAL(10,2) NOT NULL,
+    current_amount DECIMAL(10,2) NOT NULL,
+    target_date DATE,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS savings (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    goal_name VARCHAR(255) NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    target_amount DECIMAL(10,2),
+    description VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS forum_posts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    likes_count INT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS forum_comments (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    content TEXT NOT NULL,
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    user_name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS forum_likes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,61 @@
+-- Composite indexes and unique keys for the per-user lookup paths. Databases that
+-- Hibernate created may already have some of these, so indexes are only added when
+-- missing.
+
+DROP PROCEDURE IF EXISTS add_index_if_missing;
+
+DELIMITER $$
+CREATE PROCEDURE add_index_if_missing(IN tbl VARCHAR(64), IN idx VARCHAR(64), IN ddl VARCHAR(1024))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = ddl;
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END $$
+DELIMITER ;
+
+-- Inline data URIs were moved to profile_images on startup since profile images went
+-- out-of-row; anything still too long for the new column is dropped.
+UPDATE users SET profile_image = NULL WHERE CHAR_LENGTH(profile_image) > 512;
+ALTER TABLE users MODIFY profile_image VARCHAR(512);
+
+-- Duplicate budgets made findByUserIdAndCategoryAndMonthAndYear fail; keep the oldest row
+DELETE b1 FROM budgets b1
+    JOIN budgets b2 ON b1.user_id = b2.user_id AND b1.category = b2.category
+        AND b1.month = b2.month AND b1.year = b2.year AND b1.id > b2.id;
+
+DELETE l1 FROM forum_likes l1
+    JOIN forum_likes l2 ON l1.post_id = l2.post_id AND l1.user_id = l2.user_id AND l1.id > l2.id;
+
+DELETE p1 FROM profile_images p1
+    JOIN profile_images p2 ON p1.user_id = p2.user_id AND p1.variant = p2.variant AND p1.id < p2.id;
+
+-- Fails on duplicate emails on purpose: those accounts need to be merged by hand
+CALL add_index_if_missing('users', 'uk_users_email', 'CREATE UNIQUE INDEX uk_users_email ON users (email)');
+
+CALL add_index_if_missing('incomes', 'idx_incomes_user_created', 'CREATE INDEX idx_incomes_user_created ON incomes (user_id, created_at)');
+CALL add_index_if_missing('expenses', 'idx_expenses_user_created', 'CREATE INDEX idx_expenses_user_created ON expenses (user_id, created_at)');
+
+CALL add_index_if_missing('budgets', 'uk_budgets_user_category_period',
+    'CREATE UNIQUE INDEX uk_budgets_user_category_period ON budgets (user_id, category, month, year)');
+CALL add_index_if_missing('budgets', 'idx_budgets_user_period', 'CREATE INDEX idx_budgets_user_period ON budgets (user_id, year, month)');
+
+CALL add_index_if_missing('savings', 'idx_savings_user_created', 'CREATE INDEX idx_savings_user_created ON savings (user_id, created_at)');
+CALL add_index_if_missing('savings_goals', 'idx_savings_goals_user', 'CREATE INDEX idx_savings_goals_user ON savings_goals (user_id)');
+
+CALL add_index_if_missing('forum_posts', 'idx_forum_posts_created', 'CREATE INDEX idx_forum_posts_created ON forum_posts (created_at)');
+CALL add_index_if_missing('forum_posts', 'idx_forum_posts_user_created', 'CREATE INDEX idx_forum_posts_user_created ON forum_posts (user_id, created_at)');
+CALL add_index_if_missing('forum_posts', 'idx_forum_posts_category_created',
+    'CREATE INDEX idx_forum_posts_category_created ON forum_posts (category, created_at)');
+CALL add_index_if_missing('forum_comments', 'idx_forum_comments_post', 'CREATE INDEX idx_forum_comments_post ON forum_comments (post_id, created_at)');
+CALL add_index_if_missing('forum_comments', 'idx_forum_comments_user_created', 'CREATE INDEX idx_forum_comments_user_created ON forum_comments (user_id, created_at)');
+CALL add_index_if_missing('forum_likes', 'uk_forum_likes_post_user', 'CREATE UNIQUE INDEX uk_forum_likes_post_user ON forum_likes (post_id, user_id)');
+CALL add_index_if_missing('forum_likes', 'idx_forum_likes_user', 'CREATE INDEX idx_forum_likes_user ON forum_likes (user_id)');
+
+CALL add_index_if_missing('profile_images', 'uk_profile_images_user_variant',
+    'CREATE UNIQUE INDEX uk_profile_images_user_variant ON profile_images (user_id, variant)');
+
+DROP PROCEDURE add_index_if_missing;
@@ -0,0 +1,12 @@
+-- Per-user running savings total maintained by SavingsService, seeded from the
+-- existing savings rows.
+
+CREATE TABLE savings_balances (
+    user_id BIGINT NOT NULL,
+    balance DECIMAL(12,2) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+INSERT INTO savings_balances (user_id, balance, updated_at)
+SELECT user_id, SUM(amount), NOW(6) FROM savings GROUP BY user_id;
@@ -0,0 +1,33 @@
+-- Transactional outbox drained by OutboxDispatcher, the lease table that picks the
+-- node doing the draining, and the event id that keeps budget alerts idempotent
+-- under redelivery.
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id BIGINT,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6),
+    last_error VARCHAR(512),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_pending (processed_at, id),
+    INDEX idx_outbox_user (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    locked_by VARCHAR(64),
+    locked_until DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+INSERT INTO scheduler_locks (name, locked_by, locked_until) VALUES ('outbox', NULL, NULL);
+
+ALTER TABLE budget_alerts
+    ADD COLUMN event_id BIGINT,
+    ADD CONSTRAINT uk_budget_alerts_event_threshold UNIQUE (event_id, threshold);
@@ -0,0 +1,43 @@
+-- Delta sync: a per-user change counter, the version each synced row was last changed
+-- at, and tombstones for deleted rows. Existing rows start at version 0, which only a
+-- full load (no since token) returns.
+
+CREATE TABLE sync_versions (
+    user_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    pruned_through BIGINT NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE sync_tombstones (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_version BIGINT NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_sync_tombstones_user_version (user_id, change_version),
+    INDEX idx_sync_tombstones_deleted (deleted_at)
+) ENGINE=InnoDB;
+
+ALTER TABLE incomes
+    ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_incomes_user_version (user_id, change_version);
+
+ALTER TABLE expenses
+    ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_expenses_user_version (user_id, change_version);
+
+ALTER TABLE budgets
+    ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_budgets_user_version (user_id, change_version);
+
+ALTER TABLE savings_goals
+    ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_savings_goals_user_version (user_id, change_version);
+
+ALTER TABLE savings
+    ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_savings_user_version (user_id, change_version);
@@ -0,0 +1,104 @@
+package com.infosys;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * End-to-end pass over the main endpoints on an in-memory H2 database: registration and
+ * login (jjwt), transactions and projections (JPA), CBOR negotiation, analytics, forum,
+ * delta sync and the CSV/PDF exports (opencsv, iText). Runs on the JVM with mvn test and
+ * against a native test image with mvn -PnativeTest test, which is how the reflection and
+ * resource hints in NativeHintsConfig are verified.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=MONTH,YEAR,VALUE",
+    "app.recurring.enabled=false"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SmokeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String token;
+
+    @BeforeAll
+    void registerAndAddTransactions() {
+        ResponseEntity<JsonNode> registered = restTemplate.postForEntity("/auth/register",
+                Map.of("name", "Smoke Test", "email", "smoke@example.com", "password", "smoke-pass-1"), JsonNode.class);
+        assertEquals(200, registered.getStatusCode().value());
+
+        ResponseEntity<JsonNode> login = restTemplate.postForEntity("/auth/login",
+                Map.of("email", "smoke@example.com", "password", "smoke-pass-1"), JsonNode.class);
+        assertEquals(200, login.getStatusCode().value());
+        assertNotNull(login.getBody());
+        token = login.getBody().path("token").asText(null);
+        assertNotNull(token);
+
+        assertEquals(200, exchange(HttpMethod.POST, "/transactions", MediaType.ALL, Map.of("type", "income",
+                "amount", 5000, "category", "Salary", "description", "Pay", "date", "2024-05-01")).getStatusCode().value());
+        assertEquals(200, exchange(HttpMethod.POST, "/transactions", MediaType.ALL, Map.of("type", "expense",
+                "amount", 120.5, "category", "Food", "description", "Groceries", "date", "2024-05-02")).getStatusCode().value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/transactions/incomes",
+        "/transactions/expenses?fields=amount,category",
+        "/user/profile",
+        "/budget/savings-goals",
+        "/analytics/summary",
+        "/analytics/category-breakdown",
+        "/sync/changes",
+        "/api/export/csv",
+        "/api/export/pdf",
+        "/actuator/health"
+    })
+    void authenticatedGetSucceeds(String path) {
+        assertEquals(200, exchange(HttpMethod.GET, path, MediaType.ALL, null).getStatusCode().value(), path);
+    }
+
+    @Test
+    void expensesNegotiateCbor() {
+        ResponseEntity<byte[]> response = exchange(HttpMethod.GET, "/transactions/expenses", MediaType.parseMediaType("application/cbor"), null);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("application/cbor", response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    void forumPostIsListed() {
+        assertEquals(200, exchange(HttpMethod.POST, "/api/forum/posts", MediaType.ALL,
+                Map.of("title", "Hello", "content", "First post", "category", "General")).getStatusCode().value());
+        assertEquals(200, restTemplate.getForEntity("/api/forum/posts", String.class).getStatusCode().value());
+    }
+
+    private ResponseEntity<byte[]> exchange(HttpMethod method, String path, MediaType accept, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setAccept(List.of(accept));
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        return restTemplate.exchange(path, method, new HttpEntity<>(body, headers), byte[].class);
+    }
+}
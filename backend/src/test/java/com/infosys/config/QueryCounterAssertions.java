@@ -0,0 +1,28 @@
+package com.infosys.config;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Statement budgets for tests: runs an action in its own QueryCounter window and fails
+ * when it issues more SQL than allowed.
+ */
+public final class QueryCounterAssertions {
+
+    private QueryCounterAssertions() {}
+
+    public static <T> T expectAtMost(int maxStatements, Callable<T> action) throws Exception {
+        QueryCounter.start();
+        QueryCounter.Counts counts;
+        T result;
+        try {
+            result = action.call();
+        } finally {
+            counts = QueryCounter.stop();
+        }
+        if (counts.getStatements() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements but "
+                    + counts.getStatements() + " were executed");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.infosys.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryCounterTest {
+
+    @Test
+    void expectAtMostFailsOverBudget() {
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> QueryCounterAssertions.expectAtMost(2, () -> runStatements(3)));
+        assertTrue(error.getMessage().contains("3 were executed"));
+    }
+
+    @Test
+    void expectAtMostPassesWithinBudget() throws Exception {
+        assertEquals(3, (int) QueryCounterAssertions.expectAtMost(3, () -> runStatements(3)));
+    }
+
+    @Test
+    void expectAtMostSeesStatementsInsideTheRequestFilter() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "maxStatements", 25);
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                runStatements(4);
+            }
+        };
+
+        AssertionError error = assertThrows(AssertionError.class, () -> QueryCounterAssertions.expectAtMost(3, () -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/transactions/expenses"),
+                    new MockHttpServletResponse(), new MockFilterChain(servlet));
+            return null;
+        }));
+        assertTrue(error.getMessage().contains("4 were executed"));
+        assertEquals(0, QueryCounter.current().getStatements());
+    }
+
+    @Test
+    void nestedWindowsCountTowardsTheOuterWindow() {
+        QueryCounter.start();
+        runStatements(1);
+        QueryCounter.start();
+        runStatements(2);
+        assertEquals(2, QueryCounter.stop().getStatements());
+        assertEquals(3, QueryCounter.stop().getStatements());
+    }
+
+    private static int runStatements(int count) {
+        for (int i = 0; i < count; i++) {
+            QueryCounter.recordStatement();
+        }
+        return count;
+    }
+}
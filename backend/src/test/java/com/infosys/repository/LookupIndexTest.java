@@ -0,0 +1,183 @@
+package com.infosys.repository;
+
+import com.infosys.migration.V1_1__MoveInlineProfileImages;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs EXPLAIN for the SQL behind the per-user repository finders against a MySQL schema
+ * built by the Flyway migrations, and fails when one of them would scan a whole table
+ * instead of using an index. Needs Docker; skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LookupIndexTest {
+
+    private static final int USERS = 40;
+    private static final int TRANSACTIONS_PER_USER = 50;
+    private static final String[] CATEGORIES = { "Food", "Rent", "Transport", "Shopping" };
+    private static final String[] FORUM_CATEGORIES = {
+        "Budgeting", "Saving", "Investing", "Debt", "General", "Taxes", "Housing", "Travel", "Family", "Career"
+    };
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+                .javaMigrations(new V1_1__MoveInlineProfileImages())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+        seed();
+        // Fresh statistics so the plans reflect the seeded data rather than empty tables
+        for (String table : List.of("users", "incomes", "expenses", "budgets", "budget_alerts", "savings", "savings_goals",
+                "forum_posts", "forum_comments", "profile_images")) {
+            jdbcTemplate.queryForList("ANALYZE TABLE " + table);
+        }
+    }
+
+    @Test
+    void finderLookupsUseAnIndex() {
+        Map<String, String> finders = new LinkedHashMap<>();
+        finders.put("UserRepository.findByEmail",
+                "SELECT id, email, username, full_name, preferred_currency FROM users WHERE email = 'user7@example.com'");
+        finders.put("IncomeRepository.findByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM incomes WHERE user_id = 7 ORDER BY created_at DESC");
+        finders.put("ExpenseRepository.findByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM expenses WHERE user_id = 7 ORDER BY created_at DESC");
+        finders.put("BudgetRepository.findByUserIdAndCategoryAndMonthAndYear",
+                "SELECT * FROM budgets WHERE user_id = 7 AND category = 'Food' AND month = " + month() + " AND year = " + year());
+        finders.put("BudgetRepository.findByUserIdAndMonthAndYear",
+                "SELECT * FROM budgets WHERE user_id = 7 AND month = " + month() + " AND year = " + year());
+        finders.put("SavingsRepository.findByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM savings WHERE user_id = 7 ORDER BY created_at DESC");
+        finders.put("SavingsGoalRepository.findByUserId",
+                "SELECT * FROM savings_goals WHERE user_id = 7");
+        finders.put("ForumCommentRepository.findByPostIdOrderByCreatedAtAsc",
+                "SELECT * FROM forum_comments WHERE post_id = 7 ORDER BY created_at");
+        finders.put("ForumCommentRepository.findByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM forum_comments WHERE user_id = 7 ORDER BY created_at DESC");
+        finders.put("ForumPostRepository.findByCategoryOrderByCreatedAtDesc",
+                "SELECT * FROM forum_posts WHERE category = 'Budgeting' ORDER BY created_at DESC");
+        finders.put("ForumPostRepository.findByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM forum_posts WHERE user_id = 7 ORDER BY created_at DESC");
+        finders.put("ProfileImageRepository.findByUserIdAndVariant",
+                "SELECT * FROM profile_images WHERE user_id = 7 AND variant = 'avatar'");
+        finders.put("BudgetAlertRepository.findTop50ByUserIdOrderByCreatedAtDesc",
+                "SELECT * FROM budget_alerts WHERE user_id = 7 ORDER BY created_at DESC LIMIT 50");
+        finders.put("UserRepository.findUsernamesLike",
+                "SELECT username FROM users WHERE username LIKE 'user1%' ESCAPE '!' AND username REGEXP '(?i)^\\Quser1\\E[0-9]*$'");
+
+        List<String> failures = new ArrayList<>();
+        finders.forEach((finder, sql) -> {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            assertTrue(!plan.isEmpty(), finder + " returned no plan");
+            for (Map<String, Object> row : plan) {
+                if (row.get("key") == null || "ALL".equals(row.get("type"))) {
+                    failures.add(finder + ": type=" + row.get("type") + " key=" + row.get("key") + " extra=" + row.get("Extra"));
+                }
+            }
+        });
+        if (!failures.isEmpty()) {
+            fail("Finders not using an index:\n" + String.join("\n", failures));
+        }
+    }
+
+    private static void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[]{ "user" + i, "hash", "user" + i + "@example.com", "User " + i, now, now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, email, full_name, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> transactions = new ArrayList<>();
+        List<Object[]> budgets = new ArrayList<>();
+        List<Object[]> alerts = new ArrayList<>();
+        List<Object[]> savings = new ArrayList<>();
+        List<Object[]> goals = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int t = 0; t < TRANSACTIONS_PER_USER; t++) {
+                transactions.add(new Object[]{ 10.0 + t, "Transaction " + t, CATEGORIES[t % CATEGORIES.length], userId,
+                        LocalDate.now().minusDays(t).toString(), Timestamp.valueOf(LocalDateTime.now().minusDays(t)) });
+            }
+            for (int m = 0; m < 3; m++) {
+                LocalDate period = LocalDate.now().minusMonths(m);
+                for (String category : CATEGORIES) {
+                    budgets.add(new Object[]{ userId, category, 1000, 0, period.getMonthValue(), period.getYear(), now, now });
+                }
+            }
+            for (int a = 0; a < 5; a++) {
+                alerts.add(new Object[]{ userId, userId, CATEGORIES[a % CATEGORIES.length], month(), year(), 80, 800, 1000, false, now });
+                savings.add(new Object[]{ userId, "Goal " + (a % 3), 100, "Deposit " + a, now, now });
+            }
+            for (int g = 0; g < 3; g++) {
+                goals.add(new Object[]{ userId, "Goal " + g, 5000, 100, now, now });
+            }
+            for (String variant : List.of("original", "avatar", "thumbnail")) {
+                images.add(new Object[]{ userId, variant, "image/png", "etag" + userId + variant, 1, new byte[]{ 1 }, now });
+            }
+        }
+        String transactionColumns = " (amount, description, category, user_id, transaction_date, created_at) ";
+        jdbcTemplate.batchUpdate("INSERT INTO incomes" + transactionColumns + "VALUES (?, ?, ?, ?, ?, ?)", transactions);
+        jdbcTemplate.batchUpdate("INSERT INTO expenses" + transactionColumns + "VALUES (?, ?, ?, ?, ?, ?)", transactions);
+        jdbcTemplate.batchUpdate("INSERT INTO budgets (user_id, category, budget_amount, spent_amount, month, year, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", budgets);
+        jdbcTemplate.batchUpdate("INSERT INTO budget_alerts (user_id, budget_id, category, month, year, threshold, spent_amount, "
+                + "budget_amount, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", alerts);
+        jdbcTemplate.batchUpdate("INSERT INTO savings (user_id, goal_name, amount, description, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", savings);
+        jdbcTemplate.batchUpdate("INSERT INTO savings_goals (user_id, goal_name, target_amount, current_amount, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", goals);
+        jdbcTemplate.batchUpdate("INSERT INTO profile_images (user_id, variant, content_type, etag, size_bytes, data, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", images);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int p = 0; p < 1000; p++) {
+            long userId = p % USERS + 1;
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusHours(p));
+            posts.add(new Object[]{ "Post " + p, "Content " + p, FORUM_CATEGORIES[p % FORUM_CATEGORIES.length], userId,
+                    "User " + userId, 0, createdAt, createdAt });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO forum_posts (title, content, category, user_id, user_name, likes_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", posts);
+        List<Object[]> comments = new ArrayList<>();
+        for (int c = 0; c < 3000; c++) {
+            long userId = c % USERS + 1;
+            comments.add(new Object[]{ "Comment " + c, (long) (c % 1000 + 1), userId, "User " + userId, now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO forum_comments (content, post_id, user_id, user_name, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", comments);
+    }
+
+    private static int month() {
+        return LocalDate.now().getMonthValue();
+    }
+
+    private static int year() {
+        return LocalDate.now().getYear();
+    }
+}
@@ -0,0 +1,38 @@
+package com.infosys.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthServiceTest {
+
+    @Test
+    void baseIsUsedWhenFree() {
+        assertEquals("john", AuthService.nextFreeUsername("john", List.of()));
+        assertEquals("john", AuthService.nextFreeUsername("john", List.of("john1", "john2")));
+    }
+
+    @Test
+    void baseClashesCaseInsensitively() {
+        assertEquals("john1", AuthService.nextFreeUsername("john", List.of("JOHN")));
+        assertEquals("john2", AuthService.nextFreeUsername("john", List.of("John", "JOHN1")));
+    }
+
+    @Test
+    void leadingZeroAndNonNumericSuffixesDontClash() {
+        assertEquals("john1", AuthService.nextFreeUsername("john", List.of("john", "john01", "johnny", "john1a")));
+    }
+
+    @Test
+    void lowestFreeSuffixFillsGaps() {
+        assertEquals("john2", AuthService.nextFreeUsername("john", List.of("john", "john1", "john3", "john4")));
+    }
+
+    @Test
+    void suffixesOverNineDigitsAreIgnored() {
+        assertEquals("john1", AuthService.nextFreeUsername("john", List.of("john", "john1234567890")));
+        assertEquals("john2", AuthService.nextFreeUsername("john", List.of("john", "john1", "john123456789")));
+    }
+}
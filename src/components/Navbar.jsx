@@ -1,6 +1,7 @@
 import React, { useState, useRef, useEffect } from "react";
 import { useNavigate } from "react-router-dom";
 import { useTheme } from '../contexts/ThemeContext';
+import UserService from '../services/UserService';
 
 function Navbar({ profile, title = "BudgetLy" }) {
   const [showDropdown, setShowDropdown] = useState(false);
@@ -55,7 +56,7 @@ function Navbar({ profile, title = "BudgetLy" }) {
           </span>
           
           <img
-            src={localStorage.getItem('profileImage') || profile?.imageUrl || "https://cdn-icons-png.flaticon.com/512/3135/3135715.png"}
+            src={UserService.imageUrl(localStorage.getItem('profileImage'), 'thumbnail') || profile?.imageUrl || "https://cdn-icons-png.flaticon.com/512/3135/3135715.png"}
             alt="profile"
             style={{
               width: "40px",
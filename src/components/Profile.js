@@ -80,7 +80,7 @@ const Profile = () => {
         setUser(response.data);
         setSelectedImage(null);
         setImagePreview(null);
-        localStorage.setItem('profileImage', base64Image);
+        localStorage.setItem('profileImage', response.data.profileImage || '');
         alert('✅ Profile image updated!');
       } catch (error) {
         console.error('Error uploading image:', error);
@@ -214,7 +214,7 @@ const Profile = () => {
         <div className="profile-image-section">
           <div className="profile-image-wrapper">
             <img 
-              src={imagePreview || user.profileImage || 'https://cdn-icons-png.flaticon.com/512/3135/3135715.png'} 
+              src={imagePreview || UserService.imageUrl(user.profileImage) || 'https://cdn-icons-png.flaticon.com/512/3135/3135715.png'} 
               alt="Profile" 
               className="profile-image"
             />
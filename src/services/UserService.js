@@ -1,6 +1,7 @@
 import axios from "axios";
 
-const API_URL = "http://localhost:9090/user";
+const API_BASE = "http://localhost:9090";
+const API_URL = `${API_BASE}/user`;
 
 class UserService {
   getProfile() {
@@ -27,6 +28,14 @@ class UserService {
     });
   }
 
+  // Profile images are served by the backend; the profile only carries a relative URL
+  imageUrl(reference, size) {
+    if (!reference || !reference.startsWith('/')) {
+      return reference;
+    }
+    return `${API_BASE}${reference}${size ? `&size=${size}` : ''}`;
+  }
+
   deleteProfileImage() {
     const token = localStorage.getItem('token');
     return axios.delete(`${API_URL}/delete-image`, {